@@ -20,6 +20,8 @@ import de.erethon.xlib.category.IdentifierType;
 import de.erethon.xlib.chat.MessageUtil;
 import de.erethon.xlib.compatibility.Version;
 import de.erethon.xlib.gui.GUI;
+import de.erethon.xlib.gui.InventoryGUI;
+import de.erethon.xlib.item.CustomAttribute;
 import de.erethon.xlib.item.CustomItem;
 import de.erethon.xlib.item.ExItem;
 import de.erethon.xlib.item.TrackedItemStack;
@@ -28,25 +30,48 @@ import de.erethon.xlib.loottable.LootTable;
 import de.erethon.xlib.mob.CustomMob;
 import de.erethon.xlib.mob.ExMob;
 import de.erethon.xlib.mob.VanillaMob;
+import de.erethon.xlib.util.DataSnapshot;
 import de.erethon.xlib.util.ExSerialization;
 import de.erethon.xlib.util.FileUtil;
 import de.erethon.xlib.util.SimpleSerialization;
 import java.io.File;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.AbstractList;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.regex.Pattern;
 import net.milkbowl.vault.economy.Economy;
 import net.milkbowl.vault.permission.Permission;
 import org.bukkit.Bukkit;
 import org.bukkit.ChatColor;
 import org.bukkit.configuration.ConfigurationSection;
-import org.bukkit.configuration.file.FileConfiguration;
 import org.bukkit.configuration.file.YamlConfiguration;
 import org.bukkit.configuration.serialization.ConfigurationSerialization;
 import org.bukkit.entity.Entity;
+import org.bukkit.inventory.Inventory;
 import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.ItemMeta;
 import org.bukkit.metadata.MetadataValue;
 import org.bukkit.persistence.PersistentDataContainer;
 import org.bukkit.persistence.PersistentDataType;
@@ -74,16 +99,175 @@ public class XLib {
     private String identifierPrefix;
     private File dataFolder;
 
+    /**
+     * Files larger than this are never treated as empty without being parsed.
+     */
+    private static final int EMPTY_DATA_FILE_MAX_LENGTH = 256;
+    /**
+     * Matches a YAML line that does not contain any data, e.g. "categoryDamageModifiers: {}".
+     */
+    private static final Pattern EMPTY_DATA_LINE = Pattern.compile("#.*|\\{\\s*\\}|[^:#]+:\\s*(\\{\\s*\\})?");
+
     private SimpleSerialization simpleSerialization = new SimpleSerialization(this);
     private ExSerialization exSerialization = new ExSerialization(this);
 
-    private List<Category<ExItem>> itemCategories = new ArrayList<>();
-    private List<ExItem> items = new ArrayList<>();
-    private List<Category<ExMob>> mobCategories = new ArrayList<>();
-    private List<ExMob> mobs = new ArrayList<>();
-    private List<LootTable> lootTables = new ArrayList<>();
+    /**
+     * The registered content.
+     * <p>
+     * {@link #reload()} fills a new instance off to the side and publishes it with a single assignment, so that readers never see a partially loaded
+     * instance. This is not an immutable snapshot: after it has been published, the register and unregister methods modify its Lists and Maps in place, and
+     * the ordinals and category memberships of the items and mobs it contains are only applied afterwards. There is a single writer; reloading, registering
+     * and unregistering must happen on the main thread. Other threads may read, but they are not guaranteed to see these changes consistently.
+     */
+    private static class Content {
+
+        List<Category<ExItem>> itemCategories = new ArrayList<>();
+        List<ExItem> items = new ArrayList<>();
+        Map<String, ExItem> itemsById = new HashMap<>();
+        Map<String, ExItem> itemsByAmbiguousId = new HashMap<>();
+        List<Category<ExMob>> mobCategories = new ArrayList<>();
+        List<ExMob> mobs = new ArrayList<>();
+        Map<String, ExMob> mobsById = new HashMap<>();
+        Map<String, ExMob> mobsByBukkitName = new HashMap<>();
+        List<LootTable> lootTables = new ArrayList<>();
+        /**
+         * Overrides of vanilla items and mobs that have been loaded but not yet applied to the shared vanilla objects.
+         */
+        Map<ExItem, Map<String, Object>> itemOverrides = new HashMap<>();
+        Map<ExMob, Map<String, Object>> mobOverrides = new HashMap<>();
+        /**
+         * Damage modifiers of all item / mob pairs, indexed by item ordinal * mob count + mob ordinal; null if it needs to be recompiled.
+         */
+        double[] damageModifiers;
+        int damageModifiersVersion;
+
+    }
+
+    /**
+     * A live view of a registry List. Additions and removals are routed through the register and unregister methods, so that all indexes are kept up to
+     * date.
+     */
+    private class RegistryView<E> extends AbstractList<E> {
+
+        private Function<Content, List<E>> list;
+        private Consumer<E> register;
+        private Consumer<E> unregister;
 
-    private List<GUI> guiCache = new ArrayList<>();
+        RegistryView(Function<Content, List<E>> list, Consumer<E> register, Consumer<E> unregister) {
+            this.list = list;
+            this.register = register;
+            this.unregister = unregister;
+        }
+
+        @Override
+        public E get(int index) {
+            return list.apply(getContent()).get(index);
+        }
+
+        @Override
+        public int size() {
+            return list.apply(getContent()).size();
+        }
+
+        @Override
+        public void add(int index, E element) {
+            // Elements are always appended, as the position is their ordinal
+            register.accept(element);
+        }
+
+        @Override
+        public E remove(int index) {
+            E element = get(index);
+            unregister.accept(element);
+            return element;
+        }
+
+    }
+
+    /**
+     * An unmodifiable List of the registered GUIs of a type.
+     * <p>
+     * Unregistered GUIs are replaced with null and only removed the next time the List is read, so that unregistering a GUI does not need to search the
+     * List. The order of registration is kept.
+     */
+    private static class GUIList extends AbstractList<GUI> {
+
+        private List<GUI> guis = new ArrayList<>();
+        private Map<GUI, Integer> indices = new IdentityHashMap<>();
+        private int removed;
+
+        void register(GUI gui) {
+            indices.put(gui, guis.size());
+            guis.add(gui);
+            modCount++;
+        }
+
+        void unregister(GUI gui) {
+            Integer index = indices.remove(gui);
+            if (index == null) {
+                return;
+            }
+            guis.set(index, null);
+            removed++;
+            modCount++;
+        }
+
+        private void compact() {
+            if (removed == 0) {
+                return;
+            }
+            int size = 0;
+            for (GUI gui : guis) {
+                if (gui != null) {
+                    indices.put(gui, size);
+                    guis.set(size++, gui);
+                }
+            }
+            guis.subList(size, guis.size()).clear();
+            removed = 0;
+        }
+
+        @Override
+        public GUI get(int index) {
+            compact();
+            return guis.get(index);
+        }
+
+        @Override
+        public int size() {
+            compact();
+            return guis.size();
+        }
+
+    }
+
+    private volatile Content content = new Content();
+    private List<ExItem> itemsView = new RegistryView<>(c -> c.items, this::register, this::unregister);
+    private List<Category<ExItem>> itemCategoriesView = new RegistryView<>(c -> c.itemCategories, this::registerItemCategory, this::unregisterItemCategory);
+    private List<ExMob> mobsView = new RegistryView<>(c -> c.mobs, this::register, this::unregister);
+    private List<Category<ExMob>> mobCategoriesView = new RegistryView<>(c -> c.mobCategories, this::registerMobCategory, this::unregisterMobCategory);
+    // The content that is being loaded and the thread that loads it; other threads keep seeing the published content.
+    private volatile Content loading;
+    private volatile Thread loadingThread;
+    private Map<Entity, ExMob> mobsByEntity = new WeakHashMap<>();
+    private volatile int registryVersion;
+    private volatile int damageModifierVersion;
+    private boolean parallelLoading;
+    private boolean snapshotCache;
+    private DataSnapshot snapshot;
+
+    private Set<GUI> guiCache = Collections.newSetFromMap(new IdentityHashMap<>());
+    private Map<Class<?>, GUIList> guisByType = new HashMap<>();
+    private Map<Class<?>, Set<Class<?>>> guiSuperTypes = new HashMap<>();
+    private Map<Inventory, InventoryGUI> guisByInventory = new IdentityHashMap<>();
+
+    private static final int TRACKED_STACK_CACHE_SIZE = 1024;
+    private Map<Long, TrackedItemStack> trackedStacks = new LinkedHashMap<Long, TrackedItemStack>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, TrackedItemStack> eldest) {
+            return size() > TRACKED_STACK_CACHE_SIZE;
+        }
+    };
 
     /**
      * Initializes or returns the XLib singleton instance.
@@ -118,8 +302,8 @@ public class XLib {
         loadPermissionProvider();
         placeholderAPI = Bukkit.getPluginManager().isPluginEnabled("PlaceholderAPI");
 
-        items.addAll(VanillaItem.getLoaded());
-        mobs.addAll(VanillaMob.getLoaded());
+        VanillaItem.getLoaded().forEach(this::register);
+        VanillaMob.getLoaded().forEach(this::register);
 
         ConfigurationSerialization.registerClass(CustomItem.class);
         ConfigurationSerialization.registerClass(CustomMob.class);
@@ -137,16 +321,94 @@ public class XLib {
 
     /**
      * Reloads all content.
+     * <p>
+     * The new content is loaded off to the side and replaces the old content at once when loading has finished. Until then, other threads keep seeing the old
+     * content. This must be called on the main thread.
      */
     public void reload() {
-        items.clear();
-        items.addAll(VanillaItem.getLoaded());
-        mobs.clear();
-        mobs.addAll(VanillaMob.getLoaded());
-        itemCategories.clear();
-        mobCategories.clear();
-        lootTables.clear();
-        loadDataFiles();
+        Content previous = content;
+        Content next = new Content();
+        loadingThread = Thread.currentThread();
+        loading = next;
+        try {
+            VanillaItem.getLoaded().forEach(this::register);
+            VanillaMob.getLoaded().forEach(this::register);
+            loadDataFiles();
+        } finally {
+            loading = null;
+            loadingThread = null;
+        }
+
+        content = next;
+        // Items, mobs and categories may be shared between both contents, so their state is only changed after the new content has been published.
+        previous.itemCategories.forEach(c -> {
+            c.getElements().forEach(XLib::clearCategoryOrdinals);
+            c.setOrdinal(-1);
+        });
+        previous.mobCategories.forEach(c -> {
+            c.getElements().forEach(XLib::clearCategoryOrdinals);
+            c.setOrdinal(-1);
+        });
+        // Objects that have not been loaded again must not keep ordinals that now belong to other objects
+        Set<ExItem> nextItems = Collections.newSetFromMap(new IdentityHashMap<>());
+        nextItems.addAll(next.items);
+        previous.items.stream().filter(i -> !nextItems.contains(i)).forEach(i -> i.setOrdinal(-1));
+        Set<ExMob> nextMobs = Collections.newSetFromMap(new IdentityHashMap<>());
+        nextMobs.addAll(next.mobs);
+        previous.mobs.stream().filter(m -> !nextMobs.contains(m)).forEach(m -> m.setOrdinal(-1));
+        link(next);
+        mobsByEntity.clear();
+        trackedStacks.clear();
+    }
+
+    private Content getContent() {
+        Content loading = this.loading;
+        return loading != null && Thread.currentThread() == loadingThread ? loading : content;
+    }
+
+    /**
+     * Returns if the calling thread is filling content that has not been published yet. Shared objects must not be changed then.
+     */
+    private boolean isLoading() {
+        return loading != null && Thread.currentThread() == loadingThread;
+    }
+
+    /**
+     * Applies the state that the content keeps on the item, mob and category objects: ordinals, category memberships, vanilla overrides and the values
+     * loaded from them.
+     */
+    private void link(Content content) {
+        for (int i = 0; i < content.items.size(); i++) {
+            content.items.get(i).setOrdinal(i);
+        }
+        for (int i = 0; i < content.mobs.size(); i++) {
+            content.mobs.get(i).setOrdinal(i);
+        }
+        for (int i = 0; i < content.itemCategories.size(); i++) {
+            linkCategory(content.itemCategories.get(i), i);
+        }
+        for (int i = 0; i < content.mobCategories.size(); i++) {
+            linkCategory(content.mobCategories.get(i), i);
+        }
+        content.itemOverrides.forEach(ExItem::setRaw);
+        content.itemOverrides.clear();
+        content.mobOverrides.forEach(ExMob::setRaw);
+        content.mobOverrides.clear();
+
+        // Makes items and mobs load their damage modifiers.
+        content.items.forEach(i -> i.load(this));
+        content.mobs.forEach(m -> m.load(this));
+        registryVersion++;
+        invalidateDamageModifiers();
+    }
+
+    private static void linkCategory(Category<?> category, int ordinal) {
+        category.setOrdinal(ordinal);
+        for (Categorizable element : category.getElements()) {
+            if (element != null) {
+                element.getCategoryOrdinals().set(ordinal);
+            }
+        }
     }
 
     /**
@@ -236,128 +498,392 @@ public class XLib {
         return placeholderAPI;
     }
 
+    /**
+     * Returns if data files are parsed on a worker pool.
+     *
+     * @return if data files are parsed on a worker pool
+     */
+    public boolean isParallelLoadingEnabled() {
+        return parallelLoading;
+    }
+
+    /**
+     * Sets if data files shall be parsed on a worker pool.
+     * <p>
+     * If enabled, {@link #loadDataFiles()} parses the YAML files concurrently and then registers the results on the calling thread. Note that this deserializes
+     * Bukkit objects like item metas outside of the main thread.
+     *
+     * @param parallelLoading if data files shall be parsed on a worker pool
+     */
+    public void setParallelLoadingEnabled(boolean parallelLoading) {
+        this.parallelLoading = parallelLoading;
+    }
+
+    /**
+     * Returns if the values of data files are cached in a binary snapshot.
+     *
+     * @return if the values of data files are cached in a binary snapshot
+     */
+    public boolean isSnapshotCacheEnabled() {
+        return snapshotCache;
+    }
+
+    /**
+     * Sets if the values of data files shall be cached in a binary snapshot.
+     * <p>
+     * If enabled, {@link #loadDataFiles()} restores the values of files that have not been modified since the last load from cache/data.snapshot instead of
+     * parsing the YAML again.
+     *
+     * @param snapshotCache if the values of data files shall be cached in a binary snapshot
+     * @see DataSnapshot
+     */
+    public void setSnapshotCacheEnabled(boolean snapshotCache) {
+        this.snapshotCache = snapshotCache;
+    }
+
     /**
      * Loads the data files.
+     * <p>
+     * Custom items and mobs are registered after the custom items and mobs they are based on.
+     * <p>
+     * The damage modifiers of vanilla items and mobs are only stored if they override the defaults, in a file named after the ID of the item or mob in
+     * vanilla/items or vanilla/mobs, e.g. vanilla/items/DIAMOND_SWORD.yml with the sections "categoryDamageModifiers" and "mobDamageModifiers". Files in
+     * these folders that do not contain any values are skipped without being parsed.
      */
     public void loadDataFiles() {
+        Content content = getContent();
         getDataFolder().mkdir();
         File icFile = new File(getDataFolder(), "ItemCategories.yml");
-        if (!icFile.exists()) {
-            try {
-                icFile.createNewFile();
-            } catch (IOException exception) {
-                exception.printStackTrace();
+        File mcFile = new File(getDataFolder(), "MobCategories.yml");
+        File cmDir = new File(getDataFolder() + "/custom/mobs");
+        File vmDir = new File(getDataFolder() + "/vanilla/mobs");
+        File ciDir = new File(getDataFolder() + "/custom/items");
+        File viDir = new File(getDataFolder() + "/vanilla/items");
+        File ltDir = new File(getDataFolder() + "/custom/loottables");
+        cmDir.mkdirs();
+        vmDir.mkdirs();
+        ciDir.mkdirs();
+        viDir.mkdirs();
+        ltDir.mkdirs();
+
+        // Parsing the files does not touch the registry and may therefore happen concurrently.
+        ExecutorService pool = null;
+        if (parallelLoading) {
+            AtomicInteger threadCount = new AtomicInteger();
+            pool = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(), r -> {
+                Thread thread = new Thread(r, "XLib Data Loader #" + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        Executor executor = pool != null ? pool : Runnable::run;
+        snapshot = snapshotCache ? new DataSnapshot(new File(getDataFolder(), "cache/data.snapshot")) : null;
+
+        CompletableFuture<Map<String, Object>> icValues = parseAsync(icFile, executor);
+        CompletableFuture<Map<String, Object>> mcValues = parseAsync(mcFile, executor);
+        Map<String, CompletableFuture<Map<String, Object>>> cmValues = parseAsync(cmDir, executor);
+        Map<String, CompletableFuture<Map<String, Object>>> vmValues = parseOverridesAsync(vmDir, executor);
+        Map<String, CompletableFuture<Map<String, Object>>> ciValues = parseAsync(ciDir, executor);
+        Map<String, CompletableFuture<Map<String, Object>>> viValues = parseOverridesAsync(viDir, executor);
+        Map<String, CompletableFuture<Map<String, Object>>> ltValues = parseAsync(ltDir, executor);
+
+        // Registration happens on the calling thread.
+        try {
+            for (Map.Entry<String, Object> entry : icValues.join().entrySet()) {
+                registerItemCategory(new Category<>(this, entry.getKey(), (List<String>) entry.getValue()));
+            }
+            for (Map.Entry<String, Object> entry : mcValues.join().entrySet()) {
+                registerMobCategory(new Category<>(this, entry.getKey(), (List<String>) entry.getValue()));
+            }
+
+            Map<String, Map<String, Object>> pendingMobs = join(cmValues);
+            new ArrayList<>(pendingMobs.keySet()).forEach(id -> registerCustomMob(id, pendingMobs));
+            // Vanilla mobs and items only have a file if their defaults are overridden.
+            for (VanillaMob mob : VanillaMob.getLoaded()) {
+                CompletableFuture<Map<String, Object>> values = vmValues.get(mob.getId());
+                Map<String, Object> raw = values != null ? values.join() : null;
+                content.mobOverrides.put(mob, raw != null ? raw : new HashMap<>());
+            }
+
+            Map<String, Map<String, Object>> pendingItems = join(ciValues);
+            new ArrayList<>(pendingItems.keySet()).forEach(id -> registerCustomItem(id, pendingItems));
+            for (VanillaItem item : VanillaItem.getLoaded()) {
+                CompletableFuture<Map<String, Object>> values = viValues.get(item.getId());
+                Map<String, Object> raw = values != null ? values.join() : null;
+                content.itemOverrides.put(item, raw != null ? raw : new HashMap<>());
+            }
+
+            join(ltValues).forEach((name, values) -> content.lootTables.add(LootTable.deserialize(values).name(name)));
+            if (snapshot != null) {
+                snapshot.save();
+            }
+        } finally {
+            snapshot = null;
+            if (pool != null) {
+                pool.shutdown();
             }
         }
-        FileConfiguration icConfig = YamlConfiguration.loadConfiguration(icFile);
-        for (Object entry : icConfig.getValues(false).entrySet()) {
-            itemCategories.add(new Category<>(this, ((Map.Entry) entry).getKey().toString(), (List<String>) ((Map.Entry) entry).getValue()));
+
+        // When reloading, this happens after the content has been published.
+        if (!isLoading()) {
+            link(content);
         }
+    }
 
-        File mcFile = new File(getDataFolder(), "MobCategories.yml");
-        if (!mcFile.exists()) {
+    private CompletableFuture<Map<String, Object>> parseAsync(File file, Executor executor) {
+        if (!file.exists()) {
             try {
-                mcFile.createNewFile();
+                file.createNewFile();
             } catch (IOException exception) {
                 exception.printStackTrace();
             }
         }
-        FileConfiguration mcConfig = YamlConfiguration.loadConfiguration(mcFile);
-        for (Object entry : mcConfig.getValues(false).entrySet()) {
-            mobCategories.add(new Category<>(this, ((Map.Entry) entry).getKey().toString(), (List<String>) ((Map.Entry) entry).getValue()));
+        return CompletableFuture.supplyAsync(() -> parse(file), executor);
+    }
+
+    private Map<String, CompletableFuture<Map<String, Object>>> parseAsync(File folder, Executor executor) {
+        Map<String, CompletableFuture<Map<String, Object>>> values = new LinkedHashMap<>();
+        for (File file : FileUtil.getFilesForFolder(folder)) {
+            String id = file.getName().substring(0, file.getName().length() - 4);
+            values.put(id, CompletableFuture.supplyAsync(() -> parse(file), executor));
         }
+        return values;
+    }
 
-        File custom = new File(getDataFolder() + "/custom/mobs");
-        custom.mkdirs();
-        for (File file : FileUtil.getFilesForFolder(custom)) {
-            FileConfiguration config = YamlConfiguration.loadConfiguration(file);
-            CustomMob mob = null;
-            try {
-                mob = CustomMob.deserialize(config.getValues(false));
-            } catch (Exception exception) {
-                MessageUtil.log("[XLib] The custom mob file \"" + file.getName() + "\"is invalid:");
-                exception.printStackTrace();
-                continue;
-            }
+    /**
+     * Like {@link #parseAsync(File, Executor)}, but skips files without any overrides, such as the empty defaults older versions created for
+     * every vanilla item and mob. Their futures complete with null.
+     */
+    private Map<String, CompletableFuture<Map<String, Object>>> parseOverridesAsync(File folder, Executor executor) {
+        Map<String, CompletableFuture<Map<String, Object>>> values = new LinkedHashMap<>();
+        for (File file : FileUtil.getFilesForFolder(folder)) {
             String id = file.getName().substring(0, file.getName().length() - 4);
-            mob.register(id);
-        }
-        File vmFile = new File(getDataFolder() + "/vanilla/mobs");
-        vmFile.mkdirs();
-        for (VanillaMob mob : VanillaMob.getLoaded()) {
-            File file = new File(vmFile, mob.getId() + ".yml");
-            YamlConfiguration config;
-            if (!file.exists()) {
-                try {
-                    file.createNewFile();
-                } catch (IOException exception) {
-                    exception.printStackTrace();
-                }
-                config = YamlConfiguration.loadConfiguration(file);
-                config.createSection("categoryDamageModifiers");
-                config.createSection("itemDamageModifiers");
-                try {
-                    config.save(file);
-                } catch (IOException exception) {
-                    exception.printStackTrace();
+            values.put(id, CompletableFuture.supplyAsync(() -> {
+                // Empty files are skipped, but kept, as they might have just been created to be edited
+                return isEmptyDataFile(file) ? null : parse(file);
+            }, executor));
+        }
+        return values;
+    }
+
+    private static boolean isEmptyDataFile(File file) {
+        long length = file.length();
+        if (length == 0) {
+            return true;
+        } else if (length > EMPTY_DATA_FILE_MAX_LENGTH) {
+            return false;
+        }
+        try {
+            for (String line : Files.readAllLines(file.toPath(), StandardCharsets.UTF_8)) {
+                String trimmed = line.trim();
+                if (!trimmed.isEmpty() && !EMPTY_DATA_LINE.matcher(trimmed).matches()) {
+                    return false;
                 }
-            } else {
-                config = YamlConfiguration.loadConfiguration(file);
             }
-            mob.setRaw(config.getValues(false));
+        } catch (IOException exception) {
+            return false;
         }
+        return true;
+    }
 
-        File ciFile = new File(getDataFolder() + "/custom/items");
-        ciFile.mkdirs();
-        for (File file : FileUtil.getFilesForFolder(ciFile)) {
-            FileConfiguration config = YamlConfiguration.loadConfiguration(file);
-            CustomItem item = null;
-            try {
-                item = CustomItem.deserialize(config.getValues(false));
-            } catch (Exception exception) {
-                MessageUtil.log("[XLib] The custom item file \"" + file.getName() + "\"is invalid:");
-                exception.printStackTrace();
-                continue;
+    private Map<String, Object> parse(File file) {
+        DataSnapshot snapshot = this.snapshot;
+        return snapshot != null ? snapshot.load(file) : YamlConfiguration.loadConfiguration(file).getValues(false);
+    }
+
+    private static Map<String, Map<String, Object>> join(Map<String, CompletableFuture<Map<String, Object>>> futures) {
+        Map<String, Map<String, Object>> values = new LinkedHashMap<>();
+        futures.forEach((id, future) -> values.put(id, future.join()));
+        return values;
+    }
+
+    private CustomMob registerCustomMob(String id, Map<String, Map<String, Object>> pending) {
+        Map<String, Object> args = pending.remove(id);
+        if (args == null) {
+            return null;
+        }
+        Object species = args.get("species");
+        if (species instanceof String && pending.containsKey(species) && getExMob((String) species) == null) {
+            registerCustomMob((String) species, pending);
+        }
+        CustomMob mob = null;
+        try {
+            mob = CustomMob.deserialize(args);
+        } catch (Exception exception) {
+            MessageUtil.log("[XLib] The custom mob file \"" + id + ".yml\"is invalid:");
+            exception.printStackTrace();
+            return null;
+        }
+        mob.register(id);
+        return mob;
+    }
+
+    private CustomItem registerCustomItem(String id, Map<String, Map<String, Object>> pending) {
+        Map<String, Object> args = pending.remove(id);
+        if (args == null) {
+            return null;
+        }
+        Object material = args.get("material");
+        if (material instanceof String && pending.containsKey(material) && getExItem((String) material) == null) {
+            registerCustomItem((String) material, pending);
+        }
+        CustomItem item = null;
+        try {
+            item = CustomItem.deserialize(args);
+        } catch (Exception exception) {
+            MessageUtil.log("[XLib] The custom item file \"" + id + ".yml\"is invalid:");
+            exception.printStackTrace();
+            return null;
+        }
+        item.register(id);
+        return item;
+    }
+
+    /**
+     * Reloads a single data file, e.g. after it has been edited.
+     * <p>
+     * The custom item, mob or loot table that the file in custom/items, custom/mobs or custom/loottables defines is replaced, registered or unregistered
+     * depending on if the file still exists. If the old object is referred to by other content, for example as the base of another item or as an element of a
+     * category, or if a category or vanilla override file changes, all content is {@link #reload() reloaded}. Other files are ignored.
+     *
+     * @param file the data file that has been created, modified or deleted
+     */
+    public void reloadDataFile(File file) {
+        if (!reloadDataFileIncrementally(file)) {
+            reload();
+        }
+    }
+
+    /**
+     * Reloads the given data files, e.g. after they have been edited.
+     * <p>
+     * This works like {@link #reloadDataFile(java.io.File)}, but if any of the files requires all content to be reloaded, it is only reloaded once.
+     *
+     * @param files the data files that have been created, modified or deleted
+     */
+    public void reloadDataFiles(Collection<File> files) {
+        for (File file : files) {
+            if (!reloadDataFileIncrementally(file)) {
+                // Reloading everything covers the remaining files as well
+                reload();
+                return;
             }
-            String id = file.getName().substring(0, file.getName().length() - 4);
-            item.register(id);
-        }
-        File viFile = new File(getDataFolder() + "/vanilla/items");
-        if (!viFile.exists()) {
-            viFile.mkdirs();
-        }
-        for (VanillaItem item : VanillaItem.getLoaded()) {
-            File file = new File(viFile, item.getId() + ".yml");
-            FileConfiguration config;
-            if (!file.exists()) {
-                try {
-                    file.createNewFile();
-                } catch (IOException exception) {
-                    exception.printStackTrace();
+        }
+    }
+
+    /**
+     * Returns false if all content needs to be reloaded instead.
+     */
+    private boolean reloadDataFileIncrementally(File file) {
+        Content content = getContent();
+        if (!file.getName().endsWith(".yml")) {
+            return true;
+        }
+        String id = file.getName().substring(0, file.getName().length() - 4);
+
+        if (isInFolder(file, "custom/items")) {
+            CustomItem old = null;
+            for (CustomItem item : getCustomItems()) {
+                if (id.equals(item.getId())) {
+                    old = item;
+                }
+            }
+            if (old != null && isReferenced(old)) {
+                return false;
+            }
+            if (old != null) {
+                unregister(old);
+            }
+            if (file.exists()) {
+                Map<String, Map<String, Object>> pending = new HashMap<>();
+                pending.put(id, YamlConfiguration.loadConfiguration(file).getValues(false));
+                CustomItem item = registerCustomItem(id, pending);
+                if (item != null) {
+                    item.load(this);
+                }
+            }
+
+        } else if (isInFolder(file, "custom/mobs")) {
+            CustomMob old = null;
+            for (CustomMob mob : getCustomMobs()) {
+                if (id.equals(mob.getId())) {
+                    old = mob;
                 }
-                config = YamlConfiguration.loadConfiguration(file);
-                config.createSection("categoryDamageModifiers");
-                config.createSection("mobDamageModifiers");
-                try {
-                    config.save(file);
-                } catch (IOException exception) {
-                    exception.printStackTrace();
+            }
+            if (old != null && isReferenced(old)) {
+                return false;
+            }
+            if (old != null) {
+                unregister(old);
+            }
+            if (file.exists()) {
+                Map<String, Map<String, Object>> pending = new HashMap<>();
+                pending.put(id, YamlConfiguration.loadConfiguration(file).getValues(false));
+                CustomMob mob = registerCustomMob(id, pending);
+                if (mob != null) {
+                    mob.load(this);
                 }
-            } else {
-                config = YamlConfiguration.loadConfiguration(file);
             }
-            item.setRaw(config.getValues(false));
+
+        } else if (isInFolder(file, "custom/loottables")) {
+            LootTable old = getLootTable(id);
+            if (old != null) {
+                for (CustomMob mob : getCustomMobs()) {
+                    if (mob.getDrops() == old) {
+                        return false;
+                    }
+                }
+                content.lootTables.remove(old);
+            }
+            if (file.exists()) {
+                content.lootTables.add(LootTable.deserialize(YamlConfiguration.loadConfiguration(file).getValues(false)).name(id));
+            }
+
+        } else if (isInFolder(file, "vanilla/items") || isInFolder(file, "vanilla/mobs") || file.equals(new File(getDataFolder(), "ItemCategories.yml"))
+                || file.equals(new File(getDataFolder(), "MobCategories.yml"))) {
+            return false;
         }
+        return true;
+    }
 
-        File ltDir = new File(getDataFolder() + "/custom/loottables");
-        ltDir.mkdirs();
-        FileUtil.getFilesForFolder(ltDir).forEach(f -> lootTables.add(
-                LootTable.deserialize(YamlConfiguration.loadConfiguration(f).getValues(false)).name(f.getName().replace(".yml", "")))
-        );
+    private boolean isInFolder(File file, String folder) {
+        return file.getAbsolutePath().startsWith(new File(getDataFolder(), folder).getAbsolutePath() + File.separator);
+    }
 
-        // Makes items and mobs load their damage modifiers.
-        items.forEach(i -> i.load(this));
-        mobs.forEach(m -> m.load(this));
+    private boolean isReferenced(ExItem old) {
+        Content content = getContent();
+        if (!old.getCategoryOrdinals().isEmpty()) {
+            return true;
+        }
+        for (ExItem item : content.items) {
+            if (item.getBase() == old) {
+                return true;
+            }
+        }
+        for (ExMob mob : content.mobs) {
+            if (mob.getItemDamageModifiers().containsKey(old)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isReferenced(ExMob old) {
+        Content content = getContent();
+        if (!old.getCategoryOrdinals().isEmpty()) {
+            return true;
+        }
+        for (ExMob mob : content.mobs) {
+            if (mob.getBase() == old) {
+                return true;
+            }
+        }
+        for (ExItem item : content.items) {
+            if (item.getMobDamageModifiers().containsKey(old)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     /**
@@ -416,12 +942,95 @@ public class XLib {
 
     /* Items */
     /**
-     * Returns all registered items.
+     * Returns a view of all registered items.
+     * <p>
+     * Adding to and removing from the view is the same as calling {@link #register(ExItem)} and {@link #unregister(ExItem)}. Added items are always appended.
      *
      * @return all registered items
      */
     public List<ExItem> getExItems() {
-        return items;
+        return itemsView;
+    }
+
+    /**
+     * Adds the item to the registry and indexes its IDs.
+     * <p>
+     * If another item is already registered under one of the IDs, the ID keeps referring to the item that was registered first.
+     *
+     * @param item the item to register
+     */
+    public void register(ExItem item) {
+        Content content = getContent();
+        if (!isLoading()) {
+            item.setOrdinal(content.items.size());
+        }
+        content.items.add(item);
+        index(item);
+        registryVersion++;
+        invalidateDamageModifiers();
+    }
+
+    /**
+     * Removes the item from the registry.
+     *
+     * @param item the item to unregister
+     */
+    public void unregister(ExItem item) {
+        Content content = getContent();
+        if (!content.items.remove(item)) {
+            return;
+        }
+        boolean shared = !isLoading();
+        if (shared) {
+            item.setOrdinal(-1);
+        }
+        content.itemsById.clear();
+        content.itemsByAmbiguousId.clear();
+        for (int i = 0; i < content.items.size(); i++) {
+            if (shared) {
+                content.items.get(i).setOrdinal(i);
+            }
+            index(content.items.get(i));
+        }
+        trackedStacks.values().removeIf(t -> t.getType() == item);
+        registryVersion++;
+        invalidateDamageModifiers();
+    }
+
+    private void index(ExItem item) {
+        if (item instanceof VanillaItem) {
+            VanillaItem vanillaItem = (VanillaItem) item;
+            // Mirrors VanillaItem#idMatch
+            indexId(vanillaItem.get1_14Name(), item);
+            indexId(vanillaItem.get1_13Name(), item);
+            indexId(vanillaItem.getNumericIdAndData(), item);
+            indexId(vanillaItem.getOldNameAndData(), item);
+            // Mirrors VanillaItem#idMatch2nd
+            indexAmbiguousId(vanillaItem.get1_14Name(), item);
+            indexAmbiguousId(vanillaItem.get1_13Name(), item);
+            indexAmbiguousId(vanillaItem.getNumericIdAndData(), item);
+            indexAmbiguousId(vanillaItem.getOldNameAndData(), item);
+            indexAmbiguousId(vanillaItem.getOldName(), item);
+            indexAmbiguousId(String.valueOf(vanillaItem.getNumericId()), item);
+        } else {
+            indexId(item.getId(), item);
+        }
+    }
+
+    private void indexId(String id, ExItem item) {
+        if (id != null) {
+            getContent().itemsById.putIfAbsent(id, item);
+        }
+    }
+
+    private void indexAmbiguousId(String id, ExItem item) {
+        if (id != null) {
+            getContent().itemsByAmbiguousId.putIfAbsent(normalizeId(id), item);
+        }
+    }
+
+    private static String normalizeId(String id) {
+        return id.toUpperCase(Locale.ROOT);
     }
 
     /**
@@ -431,7 +1040,7 @@ public class XLib {
      */
     public List<CustomItem> getCustomItems() {
         List<CustomItem> customItems = new ArrayList<>();
-        for (ExItem item : items) {
+        for (ExItem item : getContent().items) {
             if (item instanceof CustomItem) {
                 customItems.add((CustomItem) item);
             }
@@ -448,8 +1057,13 @@ public class XLib {
      *         the material's type is used
      */
     public ExItem getExItem(ItemStack item) {
+        if (item == null) {
+            return null;
+        }
+        // ItemStack#getItemMeta() returns a copy, so it is fetched only once for all identifier types.
+        ItemMeta meta = item.hasItemMeta() ? item.getItemMeta() : null;
         for (IdentifierType idType : IdentifierType.ITEM_PRIORITY) {
-            String id = id = getExItemId(item, idType);
+            String id = getExItemId(item, meta, idType);
             ExItem exItem = getExItem(id);
             if (exItem != null) {
                 return exItem;
@@ -465,28 +1079,18 @@ public class XLib {
      * @return the item that has the given ID
      */
     public ExItem getExItem(Object id) {
+        Content content = getContent();
         if (id instanceof String) {
             // This only returns something if the ID exclusively refers to the item
-            for (ExItem item : items) {
-                ExItem idMatch = (ExItem) item.idMatch((String) id);
-                if (idMatch != null) {
-                    return idMatch;
-                }
+            ExItem idMatch = content.itemsById.get((String) id);
+            if (idMatch != null) {
+                return idMatch;
             }
             // This also allows ambiguous matches
-            for (ExItem item : items) {
-                ExItem idMatch = item.idMatch2nd((String) id);
-                if (idMatch != null) {
-                    return idMatch;
-                }
-            }
+            return content.itemsByAmbiguousId.get(normalizeId((String) id));
 
         } else if (id instanceof Integer) {
-            for (VanillaItem item : VanillaItem.getLoaded()) {
-                if (item.getNumericId() == (int) id) {
-                    return item;
-                }
-            }
+            return VanillaItem.get((int) id);
         }
 
         return null;
@@ -502,25 +1106,33 @@ public class XLib {
      *         the stack's material is used
      */
     public String getExItemId(ItemStack item, IdentifierType idType) {
+        if (item == null) {
+            return null;
+        }
+        ItemMeta meta = idType != IdentifierType.VANILLA && item.hasItemMeta() ? item.getItemMeta() : null;
+        return getExItemId(item, meta, idType);
+    }
+
+    private String getExItemId(ItemStack item, ItemMeta meta, IdentifierType idType) {
         if (item == null) {
             return null;
         }
         switch (idType) {
             case DISPLAY_NAME:
-                if (item.hasItemMeta() && item.getItemMeta().hasDisplayName()) {
-                    return item.getItemMeta().getDisplayName().replace(identifierPrefix, "");
+                if (meta != null && meta.hasDisplayName()) {
+                    return meta.getDisplayName().replace(identifierPrefix, "");
                 } else {
                     return null;
                 }
             case LORE:
-                if (item.hasItemMeta() && item.getItemMeta().hasLore()) {
-                    return item.getItemMeta().getLore().get(0).replace(identifierPrefix, "");
+                if (meta != null && meta.hasLore()) {
+                    return meta.getLore().get(0).replace(identifierPrefix, "");
                 } else {
                     return null;
                 }
             case PERSISTENT_DATA_CONTAINER:
-                if (isAtLeast1_14 && item.hasItemMeta()) {
-                    return item.getItemMeta().getPersistentDataContainer().getOrDefault(CustomItem.Constants.ID, PersistentDataType.STRING, null);
+                if (isAtLeast1_14 && meta != null) {
+                    return meta.getPersistentDataContainer().getOrDefault(CustomItem.Constants.ID, PersistentDataType.STRING, null);
                 } else {
                     return null;
                 }
@@ -597,13 +1209,42 @@ public class XLib {
         return container.get(TrackedItemStack.DATA_KEY, PersistentDataType.LONG);
     }
 
+    /**
+     * Returns the cached TrackedItemStack with the data key of the given ItemStack if it is still up to date.
+     */
+    private TrackedItemStack getTrackedStack(ItemStack itemStack) {
+        if (!isAtLeast1_14 || itemStack == null || !itemStack.hasItemMeta()) {
+            return null;
+        }
+        PersistentDataContainer container = itemStack.getItemMeta().getPersistentDataContainer();
+        Long dataKey = container.get(TrackedItemStack.DATA_KEY, PersistentDataType.LONG);
+        TrackedItemStack tracked = dataKey != null ? trackedStacks.get(dataKey) : null;
+        if (tracked == null) {
+            return null;
+        }
+        Long lastUpdate = container.get(TrackedItemStack.LAST_UPDATE, PersistentDataType.LONG);
+        if (lastUpdate == null || lastUpdate != tracked.getLastUpdate() || lastUpdate < tracked.getType().getUpdateTimestamp()) {
+            return null;
+        }
+        tracked.setWrapped(itemStack);
+        return tracked;
+    }
+
     /**
      * Wraps the given ItemStack in a TrackedItemStack.
+     * <p>
+     * Stacks with {@link #hasStackData(org.bukkit.inventory.ItemStack) stack data} are cached by their data key together with their attributes, so that
+     * wrapping the same stack again returns the same instance as long as the {@link TrackedItemStack#LAST_UPDATE update time} stored in the stack does not
+     * change.
      *
      * @param itemStack the ItemStack
      * @return a new or cached instance of TrackedItemStack that wraps the given ItemStack
      */
     public TrackedItemStack wrap(ItemStack itemStack) {
+        TrackedItemStack tracked = getTrackedStack(itemStack);
+        if (tracked != null) {
+            return tracked;
+        }
         ExItem exItem = getExItem(itemStack);
         if (exItem instanceof CustomItem) {
             return wrap((CustomItem) exItem, itemStack);
@@ -614,23 +1255,114 @@ public class XLib {
 
     /**
      * Wraps the given ItemStack in a TrackedItemStack.
+     * <p>
+     * See {@link #wrap(org.bukkit.inventory.ItemStack)}.
      *
      * @param customItem the type of the ItemStack
      * @param itemStack  the ItemStack
      * @return a new or cached instance of TrackedItemStack that wraps the given ItemStack
      */
     public TrackedItemStack wrap(CustomItem customItem, ItemStack itemStack) {
-        return new TrackedItemStack(this, customItem, itemStack);
+        TrackedItemStack tracked = getTrackedStack(itemStack);
+        if (tracked != null && tracked.getType() == customItem) {
+            return tracked;
+        }
+        TrackedItemStack outdated = tracked == null && isAtLeast1_14 ? trackedStacks.get(getStackData(itemStack)) : null;
+        tracked = new TrackedItemStack(this, customItem, itemStack);
+        if (outdated != null && outdated.getType() == customItem) {
+            // Dynamic attributes are only kept in memory, so they are carried over to the updated stack
+            for (CustomAttribute.Instance attribute : outdated.getDynamicAttributes()) {
+                tracked.addAttribute(attribute);
+                attribute.apply(tracked);
+            }
+        }
+        if (tracked.isTracked()) {
+            track(tracked);
+        }
+        return tracked;
+    }
+
+    /**
+     * Caches a TrackedItemStack that has stack-specific data.
+     *
+     * @param itemStack the TrackedItemStack
+     * @deprecated for internal use only
+     */
+    @Deprecated
+    public void track(TrackedItemStack itemStack) {
+        trackedStacks.put(itemStack.getDataKey(), itemStack);
+    }
+
+    /**
+     * Returns a number that changes whenever items or mobs are registered or unregistered, i.e. whenever {@link Categorizable#getOrdinal() ordinals} may have
+     * changed.
+     *
+     * @return the registry version
+     */
+    public int getRegistryVersion() {
+        return registryVersion;
     }
 
     /* Item categories */
     /**
-     * Returns the registered ExItem categories.
+     * Returns a view of the registered ExItem categories.
+     * <p>
+     * Adding to and removing from the view is the same as calling {@link #registerItemCategory(Category)} and {@link #unregisterItemCategory(Category)}.
+     * Added categories are always appended.
      *
      * @return the registered ExItem categories
      */
     public List<Category<ExItem>> getItemCategories() {
-        return itemCategories;
+        return itemCategoriesView;
+    }
+
+    /**
+     * Returns the registered ExItem categories that contain the given item.
+     *
+     * @param item the item
+     * @return the registered ExItem categories that contain the given item
+     */
+    public List<Category<ExItem>> getItemCategories(ExItem item) {
+        Content content = getContent();
+        List<Category<ExItem>> categories = new ArrayList<>();
+        BitSet ordinals = item.getCategoryOrdinals();
+        for (int i = ordinals.nextSetBit(0); i >= 0 && i < content.itemCategories.size(); i = ordinals.nextSetBit(i + 1)) {
+            categories.add(content.itemCategories.get(i));
+        }
+        return categories;
+    }
+
+    /**
+     * Adds the ExItem category to the registry.
+     *
+     * @param category the category to register
+     */
+    public void registerItemCategory(Category<ExItem> category) {
+        Content content = getContent();
+        content.itemCategories.add(category);
+        if (!isLoading()) {
+            linkCategory(category, content.itemCategories.size() - 1);
+        }
+        invalidateDamageModifiers();
+    }
+
+    /**
+     * Removes the ExItem category from the registry.
+     *
+     * @param category the category to unregister
+     */
+    public void unregisterItemCategory(Category<ExItem> category) {
+        Content content = getContent();
+        if (!content.itemCategories.remove(category) || isLoading()) {
+            return;
+        }
+        category.getElements().forEach(XLib::clearCategoryOrdinals);
+        category.setOrdinal(-1);
+        List<Category<ExItem>> categories = new ArrayList<>(content.itemCategories);
+        categories.forEach(c -> c.getElements().forEach(XLib::clearCategoryOrdinals));
+        content.itemCategories.clear();
+        categories.forEach(this::registerItemCategory);
+        invalidateDamageModifiers();
     }
 
     /**
@@ -640,7 +1372,7 @@ public class XLib {
      * @return the ExItem Category that has the given ID
      */
     public Category<ExItem> getItemCategory(String id) {
-        for (Category<ExItem> itemCategory : itemCategories) {
+        for (Category<ExItem> itemCategory : getContent().itemCategories) {
             if (itemCategory.getId().equals(id)) {
                 return itemCategory;
             }
@@ -650,12 +1382,81 @@ public class XLib {
 
     /* Mobs */
     /**
-     * Returns all registered mobs.
+     * Returns a view of all registered mobs.
+     * <p>
+     * Adding to and removing from the view is the same as calling {@link #register(ExMob)} and {@link #unregister(ExMob)}. Added mobs are always appended.
      *
      * @return all registered mobs
      */
     public List<ExMob> getExMobs() {
-        return mobs;
+        return mobsView;
+    }
+
+    /**
+     * Adds the mob to the registry and indexes its IDs.
+     * <p>
+     * If another mob is already registered under one of the IDs, the ID keeps referring to the mob that was registered first.
+     *
+     * @param mob the mob to register
+     */
+    public void register(ExMob mob) {
+        Content content = getContent();
+        if (!isLoading()) {
+            mob.setOrdinal(content.mobs.size());
+        }
+        content.mobs.add(mob);
+        index(mob);
+        mobsByEntity.clear();
+        registryVersion++;
+        invalidateDamageModifiers();
+    }
+
+    /**
+     * Removes the mob from the registry.
+     *
+     * @param mob the mob to unregister
+     */
+    public void unregister(ExMob mob) {
+        Content content = getContent();
+        if (!content.mobs.remove(mob)) {
+            return;
+        }
+        boolean shared = !isLoading();
+        if (shared) {
+            mob.setOrdinal(-1);
+        }
+        content.mobsById.clear();
+        content.mobsByBukkitName.clear();
+        mobsByEntity.clear();
+        for (int i = 0; i < content.mobs.size(); i++) {
+            if (shared) {
+                content.mobs.get(i).setOrdinal(i);
+            }
+            index(content.mobs.get(i));
+        }
+        registryVersion++;
+        invalidateDamageModifiers();
+    }
+
+    private void index(ExMob mob) {
+        if (mob instanceof VanillaMob) {
+            // Mirrors VanillaMob#idMatch
+            VanillaMob vanillaMob = (VanillaMob) mob;
+            if (vanillaMob.getBukkitName() != null) {
+                getContent().mobsByBukkitName.putIfAbsent(normalizeId(vanillaMob.getBukkitName()), mob);
+            }
+            indexId(vanillaMob.getId1_13(), mob);
+            indexId(vanillaMob.getId1_11(), mob);
+            indexId(vanillaMob.getId1_8(), mob);
+        } else {
+            indexId(mob.getId(), mob);
+        }
+    }
+
+    private void indexId(String id, ExMob mob) {
+        if (id != null) {
+            getContent().mobsById.putIfAbsent(id, mob);
+        }
     }
 
     /**
@@ -665,7 +1466,7 @@ public class XLib {
      */
     public List<CustomMob> getCustomMobs() {
         List<CustomMob> customMobs = new ArrayList<>();
-        for (ExMob mob : mobs) {
+        for (ExMob mob : getContent().mobs) {
             if (mob instanceof CustomMob) {
                 customMobs.add((CustomMob) mob);
             }
@@ -680,20 +1481,16 @@ public class XLib {
      * @return the mob that has the given ID
      */
     public ExMob getExMob(Object id) {
+        Content content = getContent();
         if (id instanceof String) {
-            for (ExMob mob : mobs) {
-                ExMob idMatch = (ExMob) mob.idMatch((String) id);
-                if (idMatch != null) {
-                    return idMatch;
-                }
+            ExMob idMatch = content.mobsById.get((String) id);
+            if (idMatch != null) {
+                return idMatch;
             }
+            return content.mobsByBukkitName.get(normalizeId((String) id));
 
         } else if (id instanceof Integer) {
-            for (VanillaMob mob : VanillaMob.getLoaded()) {
-                if (mob.getNumericId() == (int) id) {
-                    return mob;
-                }
-            }
+            return VanillaMob.get((int) id);
         }
 
         return null;
@@ -702,22 +1499,43 @@ public class XLib {
     /**
      * Returns the ID of the {@link ExMob} that the given Entity is an instance of. If there is no {@link CustomMob} registered, the {@link VanillaMob} of the
      * entity's type is used.
+     * <p>
+     * The result is cached until the entity is garbage collected, {@link #invalidateExMob(org.bukkit.entity.Entity) invalidated} or a mob is registered.
      *
      * @param entity the Entity
      * @return the ID of the {@link ExMob} that the given Entity is an instance of. If there is no {@link CustomMob} registered, the {@link VanillaMob} of the
      *         entity's type is used
      */
     public ExMob getExMob(Entity entity) {
+        if (entity == null) {
+            return null;
+        }
+        ExMob cached = mobsByEntity.get(entity);
+        if (cached != null) {
+            return cached;
+        }
         for (IdentifierType idType : IdentifierType.MOB_PRIORITY) {
             String id = getExMobId(entity, idType);
             ExMob exMob = getExMob(id);
             if (exMob != null) {
+                mobsByEntity.put(entity, exMob);
                 return exMob;
             }
         }
         return null;
     }
 
+    /**
+     * Discards the cached {@link ExMob} of the entity so that it is resolved again the next time {@link #getExMob(org.bukkit.entity.Entity)} is called.
+     * <p>
+     * This needs to be called when the identifier of an entity changes.
+     *
+     * @param entity the Entity
+     */
+    public void invalidateExMob(Entity entity) {
+        mobsByEntity.remove(entity);
+    }
+
     /**
      * Returns the ID of the {@link ExMob} that the given Entity is an instance of.If there is no such {@link CustomMob} registered, the {@link VanillaMob} of
      * the entity's type is used.
@@ -803,12 +1621,70 @@ public class XLib {
 
     /* Mob categories */
     /**
-     * Returns the registered ExMob categories.
+     * Returns a view of the registered ExMob categories.
+     * <p>
+     * Adding to and removing from the view is the same as calling {@link #registerMobCategory(Category)} and {@link #unregisterMobCategory(Category)}.
+     * Added categories are always appended.
      *
      * @return the registered ExMob categories
      */
     public List<Category<ExMob>> getMobCategories() {
-        return mobCategories;
+        return mobCategoriesView;
+    }
+
+    /**
+     * Returns the registered ExMob categories that contain the given mob.
+     *
+     * @param mob the mob
+     * @return the registered ExMob categories that contain the given mob
+     */
+    public List<Category<ExMob>> getMobCategories(ExMob mob) {
+        Content content = getContent();
+        List<Category<ExMob>> categories = new ArrayList<>();
+        BitSet ordinals = mob.getCategoryOrdinals();
+        for (int i = ordinals.nextSetBit(0); i >= 0 && i < content.mobCategories.size(); i = ordinals.nextSetBit(i + 1)) {
+            categories.add(content.mobCategories.get(i));
+        }
+        return categories;
+    }
+
+    /**
+     * Adds the ExMob category to the registry.
+     *
+     * @param category the category to register
+     */
+    public void registerMobCategory(Category<ExMob> category) {
+        Content content = getContent();
+        content.mobCategories.add(category);
+        if (!isLoading()) {
+            linkCategory(category, content.mobCategories.size() - 1);
+        }
+        invalidateDamageModifiers();
+    }
+
+    /**
+     * Removes the ExMob category from the registry.
+     *
+     * @param category the category to unregister
+     */
+    public void unregisterMobCategory(Category<ExMob> category) {
+        Content content = getContent();
+        if (!content.mobCategories.remove(category) || isLoading()) {
+            return;
+        }
+        category.getElements().forEach(XLib::clearCategoryOrdinals);
+        category.setOrdinal(-1);
+        List<Category<ExMob>> categories = new ArrayList<>(content.mobCategories);
+        categories.forEach(c -> c.getElements().forEach(XLib::clearCategoryOrdinals));
+        content.mobCategories.clear();
+        categories.forEach(this::registerMobCategory);
+        invalidateDamageModifiers();
+    }
+
+    private static void clearCategoryOrdinals(Categorizable element) {
+        if (element != null) {
+            element.getCategoryOrdinals().clear();
+        }
     }
 
     /**
@@ -818,7 +1694,7 @@ public class XLib {
      * @return the ExMob Category that has the given ID
      */
     public Category<ExMob> getMobCategory(String id) {
-        for (Category<ExMob> mobCategory : mobCategories) {
+        for (Category<ExMob> mobCategory : getContent().mobCategories) {
             if (mobCategory.getId().equals(id)) {
                 return mobCategory;
             }
@@ -826,6 +1702,71 @@ public class XLib {
         return null;
     }
 
+    /* Damage modifiers */
+    /**
+     * Returns the modifier damage dealt to the mob with the item is multiplied with.
+     * <p>
+     * This is the product of {@link ExItem#getDamageModifier(ExMob)} and {@link ExMob#getDamageModifier(ExItem)}. The values of all registered items and mobs
+     * are compiled into a matrix when they are first needed after the registry or the data files have changed.
+     *
+     * @param item the item the damage is dealt with
+     * @param mob  the mob the damage is dealt to
+     * @return the modifier damage dealt to the mob with the item is multiplied with
+     */
+    public double getDamageModifier(ExItem item, ExMob mob) {
+        Content content = getContent();
+        int itemOrdinal = item.getOrdinal();
+        int mobOrdinal = mob.getOrdinal();
+        if (itemOrdinal < 0 || itemOrdinal >= content.items.size() || content.items.get(itemOrdinal) != item || mobOrdinal < 0 || mobOrdinal >= content.mobs.size()
+                || content.mobs.get(mobOrdinal) != mob) {
+            return item.getDamageModifier(mob) * mob.getDamageModifier(item);
+        }
+        double[] damageModifiers = content.damageModifiers;
+        int version = damageModifierVersion;
+        if (damageModifiers == null || content.damageModifiersVersion != version) {
+            damageModifiers = compileDamageModifiers(content, version);
+        }
+        return damageModifiers[itemOrdinal * content.mobs.size() + mobOrdinal];
+    }
+
+    /**
+     * Marks the compiled damage modifiers as outdated.
+     * <p>
+     * This happens automatically when items, mobs or categories are registered, when the elements of a category change and when a modifier is set through
+     * the setters of {@link ExItem} and {@link ExMob}.
+     */
+    public void invalidateDamageModifiers() {
+        damageModifierVersion++;
+    }
+
+    private static double[] compileDamageModifiers(Content content, int version) {
+        int mobCount = content.mobs.size();
+        double[] matrix = new double[content.items.size() * mobCount];
+        Arrays.fill(matrix, 1);
+        // Most items and mobs do not have any modifiers, so only their rows / columns need to be calculated.
+        for (int i = 0; i < content.items.size(); i++) {
+            ExItem item = content.items.get(i);
+            if (item.getMobDamageModifiers().isEmpty() && item.getCategoryDamageModifiers().isEmpty()) {
+                continue;
+            }
+            for (int m = 0; m < mobCount; m++) {
+                matrix[i * mobCount + m] = item.getDamageModifier(content.mobs.get(m));
+            }
+        }
+        for (int m = 0; m < mobCount; m++) {
+            ExMob mob = content.mobs.get(m);
+            if (mob.getItemDamageModifiers().isEmpty() && mob.getCategoryDamageModifiers().isEmpty()) {
+                continue;
+            }
+            for (int i = 0; i < content.items.size(); i++) {
+                matrix[i * mobCount + m] *= mob.getDamageModifier(content.items.get(i));
+            }
+        }
+        content.damageModifiers = matrix;
+        content.damageModifiersVersion = version;
+        return matrix;
+    }
+
     /* Loot tables */
     /**
      * Returns the registered loot tables.
@@ -833,7 +1774,7 @@ public class XLib {
      * @return the registered loot tables
      */
     public List<LootTable> getLootTables() {
-        return lootTables;
+        return getContent().lootTables;
     }
 
     /**
@@ -845,7 +1786,7 @@ public class XLib {
      * @return the loot table that has the given name
      */
     public LootTable getLootTable(String name) {
-        for (LootTable lootTable : lootTables) {
+        for (LootTable lootTable : getContent().lootTables) {
             if (lootTable.getName().equalsIgnoreCase(name)) {
                 return lootTable;
             }
@@ -951,29 +1892,29 @@ public class XLib {
 
     /* GUIs */
     /**
-     * Returns a List of the registered GUIs.
+     * Returns an unmodifiable view of the registered GUIs.
+     * <p>
+     * As the List is a view, it must be copied before GUIs are unregistered while iterating over it.
      *
-     * @return a List of the registered GUIs
+     * @return an unmodifiable view of the registered GUIs
      */
     public List<GUI> getGUICache() {
-        return new ArrayList<>(guiCache);
+        return getGUICache(GUI.class);
     }
 
     /**
-     * Returns a List of the registered GUIs of a specific type.
+     * Returns an unmodifiable view of the registered GUIs of a specific type.
+     * <p>
+     * The type may be any class or interface that a GUI implementation extends or implements. As the List is a view, it must be copied before GUIs are
+     * unregistered while iterating over it.
      *
      * @param <T>  the type of the GUI implementation
      * @param type the class of the GUI implementation
-     * @return a List of the registered GUIs of a specific type
+     * @return an unmodifiable view of the registered GUIs of a specific type
      */
     public <T extends GUI> List<T> getGUICache(Class<T> type) {
-        List<T> guis = new ArrayList<>();
-        for (GUI gui : guiCache) {
-            if (type.isInstance(gui)) {
-                guis.add((T) gui);
-            }
-        }
-        return guis;
+        List<GUI> guis = guisByType.get(type);
+        return guis != null ? (List<T>) guis : Collections.emptyList();
     }
 
     /**
@@ -982,8 +1923,11 @@ public class XLib {
      * @param gui the GUI
      */
     public void register(GUI gui) {
-        if (!isRegistered(gui)) {
-            guiCache.add(gui);
+        if (!guiCache.add(gui)) {
+            return;
+        }
+        for (Class<?> type : getSuperTypes(gui.getClass())) {
+            guisByType.computeIfAbsent(type, t -> new GUIList()).register(gui);
         }
     }
 
@@ -993,7 +1937,18 @@ public class XLib {
      * @param gui the GUI
      */
     public void unregister(GUI gui) {
-        guiCache.remove(gui);
+        if (!guiCache.remove(gui)) {
+            return;
+        }
+        for (Class<?> type : getSuperTypes(gui.getClass())) {
+            GUIList guis = guisByType.get(type);
+            if (guis != null) {
+                guis.unregister(gui);
+            }
+        }
+        if (gui instanceof InventoryGUI) {
+            guisByInventory.values().removeIf(g -> g == gui);
+        }
     }
 
     /**
@@ -1006,4 +1961,58 @@ public class XLib {
         return guiCache.contains(gui);
     }
 
+    private Set<Class<?>> getSuperTypes(Class<?> type) {
+        return guiSuperTypes.computeIfAbsent(type, t -> {
+            Set<Class<?>> types = new HashSet<>();
+            collectSuperTypes(t, types);
+            return types;
+        });
+    }
+
+    private static void collectSuperTypes(Class<?> type, Set<Class<?>> types) {
+        if (type == null || type == Object.class || !types.add(type)) {
+            return;
+        }
+        collectSuperTypes(type.getSuperclass(), types);
+        for (Class<?> superInterface : type.getInterfaces()) {
+            collectSuperTypes(superInterface, types);
+        }
+    }
+
+    /**
+     * Returns the InventoryGUI that the {@link org.bukkit.inventory.Inventory} has been created from.
+     *
+     * @param inventory the Inventory
+     * @return the InventoryGUI that the Inventory has been created from; null if it is not an opened GUI inventory
+     */
+    public InventoryGUI getGUI(Inventory inventory) {
+        if (inventory == null) {
+            return null;
+        }
+        return guisByInventory.get(inventory);
+    }
+
+    /**
+     * Links an opened {@link org.bukkit.inventory.Inventory} to the InventoryGUI it has been created from.
+     *
+     * @param inventory the Inventory
+     * @param gui       the InventoryGUI
+     * @deprecated for internal use only
+     */
+    @Deprecated
+    public void registerInventory(Inventory inventory, InventoryGUI gui) {
+        guisByInventory.put(inventory, gui);
+    }
+
+    /**
+     * Removes the link between an {@link org.bukkit.inventory.Inventory} and its InventoryGUI.
+     *
+     * @param inventory the Inventory
+     * @deprecated for internal use only
+     */
+    @Deprecated
+    public void unregisterInventory(Inventory inventory) {
+        guisByInventory.remove(inventory);
+    }
+
 }
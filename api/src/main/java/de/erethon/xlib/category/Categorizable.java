@@ -16,6 +16,7 @@ package de.erethon.xlib.category;
 
 import de.erethon.xlib.XLib;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.List;
 
 /**
@@ -42,6 +43,16 @@ public abstract class Categorizable {
      */
     protected List<Category<Categorizable>> categories = new ArrayList<>();
 
+    /**
+     * The position in the registry of the API instance; -1 if the object is not registered.
+     */
+    protected int ordinal = -1;
+
+    /**
+     * The ordinals of the registered categories that contain this object.
+     */
+    protected BitSet categoryOrdinals = new BitSet();
+
     /**
      * Sets the ID of the Categorizable. Fails if an ID has already been set. Intended to be used with a deserialization constructor.
      *
@@ -84,6 +95,40 @@ public abstract class Categorizable {
         return id.equals(getId()) ? this : null;
     }
 
+    /**
+     * Returns the position of this object in the registry of the API instance.
+     * <p>
+     * Ordinals are dense, i.e. they range from 0 to the amount of registered objects of the same kind, and may therefore be used as array indices. They change
+     * when objects are unregistered.
+     *
+     * @return the position of this object in the registry; -1 if the object is not registered
+     */
+    public int getOrdinal() {
+        return ordinal;
+    }
+
+    /**
+     * For internal use.
+     * <p>
+     * Sets the position of this object in the registry of the API instance.
+     *
+     * @param ordinal the position in the registry
+     */
+    public void setOrdinal(int ordinal) {
+        this.ordinal = ordinal;
+    }
+
+    /**
+     * For internal use.
+     * <p>
+     * Returns the ordinals of the registered categories that contain this object. This is the BitSet that is maintained by the API instance, not a copy.
+     *
+     * @return the ordinals of the registered categories that contain this object
+     */
+    public BitSet getCategoryOrdinals() {
+        return categoryOrdinals;
+    }
+
     /**
      * Returns a List of the categories under that this object can be subsumed.
      *
@@ -21,7 +21,10 @@ import de.erethon.xlib.mob.ExMob;
 import de.erethon.xlib.mob.VanillaMob;
 import de.erethon.xlib.chat.MessageUtil;
 import java.lang.reflect.Field;
+import java.util.AbstractSet;
+import java.util.BitSet;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
 import org.bukkit.Material;
@@ -451,6 +454,56 @@ public class Category<T extends Categorizable> extends Categorizable {
 
     private String id;
     private Set<T> elements = new HashSet<>();
+    private Set<T> elementsView = new AbstractSet<T>() {
+        @Override
+        public Iterator<T> iterator() {
+            Iterator<T> iterator = elements.iterator();
+            return new Iterator<T>() {
+                private T last;
+
+                @Override
+                public boolean hasNext() {
+                    return iterator.hasNext();
+                }
+
+                @Override
+                public T next() {
+                    last = iterator.next();
+                    return last;
+                }
+
+                @Override
+                public void remove() {
+                    iterator.remove();
+                    onRemove(last);
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return elements.size();
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return elements.contains(o);
+        }
+
+        @Override
+        public boolean add(T t) {
+            return Category.this.add(t);
+        }
+
+        @Override
+        public boolean remove(Object o) {
+            return elements.contains(o) && Category.this.remove((T) o);
+        }
+    };
+    // Element ordinals; valid as long as the registry version they have been compiled for is current.
+    private BitSet itemOrdinals;
+    private BitSet mobOrdinals;
+    private int compiledVersion = -1;
 
     public Category(String id) {
         this.id = id;
@@ -478,12 +531,61 @@ public class Category<T extends Categorizable> extends Categorizable {
     }
 
     /**
-     * Returns the objects that belong to this category.
+     * Returns a view of the objects that belong to this category.
+     * <p>
+     * Changes to the view are the same as calling {@link #add(Categorizable)} and {@link #remove(Categorizable)}.
      *
      * @return the objects that belong to this category
      */
     public Set<T> getElements() {
-        return elements;
+        return elementsView;
+    }
+
+    /**
+     * Adds an object to this category.
+     *
+     * @param t an object of the category type
+     * @return if the object has not been an element of this category before
+     */
+    public boolean add(T t) {
+        if (!elements.add(t)) {
+            return false;
+        }
+        compiledVersion = -1;
+        if (t != null && ordinal >= 0) {
+            t.getCategoryOrdinals().set(ordinal);
+        }
+        invalidateDamageModifiers();
+        return true;
+    }
+
+    /**
+     * Removes an object from this category.
+     *
+     * @param t an object of the category type
+     * @return if the object has been an element of this category
+     */
+    public boolean remove(T t) {
+        if (!elements.remove(t)) {
+            return false;
+        }
+        onRemove(t);
+        return true;
+    }
+
+    private void onRemove(T t) {
+        compiledVersion = -1;
+        if (t != null && ordinal >= 0) {
+            t.getCategoryOrdinals().clear(ordinal);
+        }
+        invalidateDamageModifiers();
+    }
+
+    private static void invalidateDamageModifiers() {
+        XLib api = XLib.getInstance();
+        if (api != null) {
+            api.invalidateDamageModifiers();
+        }
     }
 
     /**
@@ -496,7 +598,39 @@ public class Category<T extends Categorizable> extends Categorizable {
         if (t == null) {
             return false;
         }
-        return elements.contains(t);
+        XLib api = XLib.getInstance();
+        int ordinal = t.getOrdinal();
+        if (api == null || ordinal < 0) {
+            return elements.contains(t);
+        }
+        if (compiledVersion != api.getRegistryVersion()) {
+            compile(api.getRegistryVersion());
+        }
+        if (t instanceof ExItem) {
+            return itemOrdinals.get(ordinal);
+        } else if (t instanceof ExMob) {
+            return mobOrdinals.get(ordinal);
+        } else {
+            return elements.contains(t);
+        }
+    }
+
+    private void compile(int version) {
+        BitSet itemOrdinals = new BitSet();
+        BitSet mobOrdinals = new BitSet();
+        for (T element : elements) {
+            if (element == null || element.getOrdinal() < 0) {
+                continue;
+            }
+            if (element instanceof ExItem) {
+                itemOrdinals.set(element.getOrdinal());
+            } else if (element instanceof ExMob) {
+                mobOrdinals.set(element.getOrdinal());
+            }
+        }
+        this.itemOrdinals = itemOrdinals;
+        this.mobOrdinals = mobOrdinals;
+        compiledVersion = version;
     }
 
     /**
@@ -540,7 +674,7 @@ public class Category<T extends Categorizable> extends Categorizable {
             return false;
         }
         try {
-            return contains((T) api.getExItem(item));
+            return contains((T) XLib.getInstance().getExItem(item));
         } catch (ClassCastException exception) {
             return false;
         }
@@ -100,6 +100,19 @@ public abstract class InventoryGUI extends AbstractGUI<InventoryGUI> {
         return ((InventoryLayout) getLayout()).getButton(itemStack, contextPlayer);
     }
 
+    /**
+     * Returns the InventoryButton in a slot of the inventory that the viewer sees.
+     * <p>
+     * Unlike {@link #getButton(org.bukkit.inventory.ItemStack)}, this does not compare or copy any ItemStacks.
+     *
+     * @param rawSlot the raw slot as in {@link org.bukkit.event.inventory.InventoryClickEvent#getRawSlot()}
+     * @param viewer  the viewer
+     * @return the InventoryButton in the slot; null if the slot is not part of the GUI or does not contain an InventoryButton
+     */
+    public InventoryButton getButton(int rawSlot, Player viewer) {
+        return ((InventoryLayout) getLayout()).getButton(rawSlot);
+    }
+
     /**
      * Returns the MoveItemStackListener attached to this GUI.
      *
@@ -14,6 +14,7 @@
  */
 package de.erethon.xlib.gui;
 
+import de.erethon.xlib.XLib;
 import de.erethon.xlib.gui.component.Component;
 import de.erethon.xlib.gui.component.InventoryButton;
 import de.erethon.xlib.gui.layout.PaginatedInventoryLayout;
@@ -146,7 +147,9 @@ public class PaginatedInventoryGUI extends InventoryGUI implements Paginated<Inv
     private List<Inventory> createInventories(Player viewer) {
         PaginatedInventoryLayout layout = (PaginatedInventoryLayout) getLayout();
         for (int page = 0; page < getPages(); page++) {
-            openedInventories.add(Bukkit.createInventory(null, getSize(), getTitle(page)));
+            Inventory inventory = Bukkit.createInventory(null, getSize(), getTitle(page));
+            openedInventories.add(inventory);
+            XLib.getInstance().registerInventory(inventory, this);
             for (int slot = 0; slot < getSize(); slot++) {
                 Component<?, InventoryGUI> comp = layout.getComponent(page, slot);
                 if (!(comp instanceof InventoryButton)) {
@@ -180,6 +183,15 @@ public class PaginatedInventoryGUI extends InventoryGUI implements Paginated<Inv
         return openedPage.get(player);
     }
 
+    @Override
+    public InventoryButton getButton(int rawSlot, Player viewer) {
+        if (rawSlot < 0 || rawSlot >= getSize()) {
+            return null;
+        }
+        Integer page = openedPage.get(viewer);
+        return ((PaginatedInventoryLayout) getLayout()).getButton(page != null ? page : 0, rawSlot);
+    }
+
     @Override
     public boolean is(Inventory rawInventory) {
         if (rawInventory == null) {
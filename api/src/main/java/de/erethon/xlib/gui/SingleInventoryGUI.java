@@ -14,6 +14,7 @@
  */
 package de.erethon.xlib.gui;
 
+import de.erethon.xlib.XLib;
 import de.erethon.xlib.gui.component.Component;
 import de.erethon.xlib.gui.component.InventoryButton;
 import de.erethon.xlib.gui.layout.InventoryLayout;
@@ -50,7 +51,9 @@ public class SingleInventoryGUI extends InventoryGUI {
         }
         SingleInventoryGUI copy = ((SingleInventoryGUI) getContextualizedCopy(player));
         copy.viewers.add(player);
-        player.openInventory(copy.createInventory(player));
+        Inventory inventory = copy.createInventory(player);
+        XLib.getInstance().registerInventory(inventory, copy);
+        player.openInventory(inventory);
         return copy;
     }
 
@@ -160,6 +160,20 @@ public interface InventoryLayout extends Layout<InventoryGUI> {
      */
     InventoryButton getButton(ItemStack itemStack, Player contextPlayer);
 
+    /**
+     * Returns the InventoryButton in a specific slot.
+     *
+     * @param slot the slot
+     * @return the InventoryButton in the slot; null if the slot is out of bounds or does not contain an InventoryButton
+     */
+    default InventoryButton getButton(int slot) {
+        if (slot < 0 || slot >= getSize()) {
+            return null;
+        }
+        Component<?, InventoryGUI> component = getComponent(slot);
+        return component instanceof InventoryButton ? (InventoryButton) component : null;
+    }
+
     /**
      * Returns the Component at the {@link #currentSlot()}.
      *
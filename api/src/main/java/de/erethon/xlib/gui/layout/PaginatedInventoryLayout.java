@@ -275,6 +275,29 @@ public abstract class PaginatedInventoryLayout implements InventoryLayout {
         return size;
     }
 
+    @Override
+    public InventoryButton getButton(int slot) {
+        if (slot < 0) {
+            return null;
+        }
+        return getButton(slot / getSize(), slot % getSize());
+    }
+
+    /**
+     * Returns the InventoryButton in a specific slot on a specific page.
+     *
+     * @param page the page number
+     * @param slot the slot at the page
+     * @return the InventoryButton in the slot; null if the page or slot is out of bounds or does not contain an InventoryButton
+     */
+    public InventoryButton getButton(int page, int slot) {
+        if (page < 0 || page >= components.size() || slot < 0 || slot >= getSize()) {
+            return null;
+        }
+        Component<?, InventoryGUI> component = components.get(page)[slot];
+        return component instanceof InventoryButton ? (InventoryButton) component : null;
+    }
+
     @Override
     public InventoryButton getButton(ItemStack itemStack) {
         for (Component<?, InventoryGUI>[] components : components) {
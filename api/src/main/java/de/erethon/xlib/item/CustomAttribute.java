@@ -78,6 +78,8 @@ public class CustomAttribute<V> {
         void onApplication(CustomAttribute.Instance instance, TrackedItemStack itemStack);
     }
 
+    private static int handlerVersion;
+
     private String key;
     private Applicator applicator;
     private DamageHandler damageHandler;
@@ -104,6 +106,15 @@ public class CustomAttribute<V> {
         return key;
     }
 
+    /**
+     * Returns a number that changes whenever an action handler of any attribute type is set.
+     *
+     * @return the handler version
+     */
+    static int getHandlerVersion() {
+        return handlerVersion;
+    }
+
     /* Events */
     /**
      * Returns if the custom item has a DamageHandler.
@@ -130,6 +141,7 @@ public class CustomAttribute<V> {
      */
     public void setDamageHandler(DamageHandler handler) {
         damageHandler = handler;
+        handlerVersion++;
     }
 
     /**
@@ -157,6 +169,7 @@ public class CustomAttribute<V> {
      */
     public void setDropHandler(DropHandler handler) {
         dropHandler = handler;
+        handlerVersion++;
     }
 
     /**
@@ -184,6 +197,7 @@ public class CustomAttribute<V> {
      */
     public void setHitHandler(HitHandler handler) {
         hitHandler = handler;
+        handlerVersion++;
     }
 
     /**
@@ -211,6 +225,7 @@ public class CustomAttribute<V> {
      */
     public void setRightClickHandler(RightClickHandler handler) {
         rightClickHandler = handler;
+        handlerVersion++;
     }
 
     /* Actions */
@@ -18,7 +18,9 @@ import de.erethon.xlib.compatibility.RuntimeSpecificLoader;
 import de.erethon.xlib.compatibility.Version;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import org.bukkit.ChatColor;
 import org.bukkit.Material;
@@ -350,9 +352,18 @@ public enum CustomHead {
     CHECKMARK("baaa8e9f-5fda-4429-a1db-564a6d06eab4", "eyJ0ZXh0dXJlcyI6eyJTS0lOIjp7InVybCI6Imh0dHA6Ly90ZXh0dXJlcy5taW5lY3JhZnQubmV0L3RleHR1cmUvOGE5OTM0MmUyYzczYTlmMzgyMjYyOGU3OTY0ODgyMzRmMjU4NDQ2ZjVhMmQ0ZDU5ZGRlNGFhODdkYjk4In19fQ=="),
     RED_X("d2a11595-c371-46a0-9106-15c357a636eb", "eyJ0ZXh0dXJlcyI6eyJTS0lOIjp7InVybCI6Imh0dHA6Ly90ZXh0dXJlcy5taW5lY3JhZnQubmV0L3RleHR1cmUvMTZjNjBkYTQxNGJmMDM3MTU5YzhiZThkMDlhOGVjYjkxOWJmODlhMWEyMTUwMWI1YjJlYTc1OTYzOTE4YjdiIn19fQ==");
 
+    private static final int OWNER_COMPOUND_CACHE_SIZE = 256;
+    private static final Map<String, Object> OWNER_COMPOUNDS = new LinkedHashMap<String, Object>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Object> eldest) {
+            return size() > OWNER_COMPOUND_CACHE_SIZE;
+        }
+    };
+
     private String uuid;
     private String textureValue;
     private Object skullOwner;
+    private ItemStack template;
 
     CustomHead(String uuid, String textureValue) {
         this.uuid = uuid;
@@ -447,7 +458,11 @@ public enum CustomHead {
      * @return an ItemStack of the custom head.
      */
     public ItemStack toItemStack(int amount, String displayName, String... loreLines) {
-        ItemStack item = internals.newPlayerHead(amount);
+        if (template == null) {
+            template = internals.setSkullOwner(internals.newPlayerHead(1), getSkullOwner());
+        }
+        ItemStack item = template.clone();
+        item.setAmount(amount);
 
         if (displayName != null) {
             ItemMeta meta = item.getItemMeta();
@@ -460,7 +475,7 @@ public enum CustomHead {
             item.setItemMeta(meta);
         }
 
-        return internals.setSkullOwner(item, getSkullOwner());
+        return item;
     }
 
     static interface InternalsProvider {
@@ -542,7 +557,12 @@ public enum CustomHead {
      * @return a copy of the ItemStack with the UUID and texture value applied to it
      */
     public static ItemStack setSkullOwner(ItemStack item, String id, String textureValue) {
-        return internals.setSkullOwner(item, internals.createOwnerCompound(id, textureValue));
+        Object compound;
+        // The compound only depends on the ID and the texture value, so it is built once for each distinct pair.
+        synchronized (OWNER_COMPOUNDS) {
+            compound = OWNER_COMPOUNDS.computeIfAbsent(id + ':' + textureValue, k -> internals.createOwnerCompound(id, textureValue));
+        }
+        return internals.setSkullOwner(item, compound);
     }
 
 }
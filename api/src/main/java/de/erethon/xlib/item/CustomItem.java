@@ -21,10 +21,12 @@ import de.erethon.xlib.compatibility.Version;
 import de.erethon.xlib.util.EnumUtil;
 import de.erethon.xlib.util.StringUtil;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
 import org.bukkit.Bukkit;
 import org.bukkit.ChatColor;
 import org.bukkit.NamespacedKey;
@@ -57,6 +59,11 @@ public class CustomItem extends ExItem {
     private String name;
 
     private List<CustomAttribute.Instance> staticAttributes = new ArrayList<>();
+    private List<CustomAttribute.Instance> damageAttributes = Collections.emptyList();
+    private List<CustomAttribute.Instance> dropAttributes = Collections.emptyList();
+    private List<CustomAttribute.Instance> hitAttributes = Collections.emptyList();
+    private List<CustomAttribute.Instance> rightClickAttributes = Collections.emptyList();
+    private int handlerVersion = CustomAttribute.getHandlerVersion();
     private long updateTimestamp;
 
     private String skullOwner, textureValue;
@@ -65,6 +72,12 @@ public class CustomItem extends ExItem {
     @Deprecated
     private short data = Short.MIN_VALUE;
 
+    private ItemStack template;
+    private long templateTimestamp;
+
+    private static final LongAdder NBT_CACHE_HITS = new LongAdder();
+    private static final LongAdder NBT_CACHE_MISSES = new LongAdder();
+
     public CustomItem(XLib api, IdentifierType idType, String id, ItemStack item) {
         this.api = api;
         this.idType = idType;
@@ -179,6 +192,7 @@ public class CustomItem extends ExItem {
          * @param modifier  the attribute modifier
          */
         public void addAttributeModifier(Attribute attribute, AttributeModifier modifier) {
+            template = null;
             meta.addAttributeModifier(attribute, modifier);
         }
 
@@ -188,6 +202,7 @@ public class CustomItem extends ExItem {
          * @param attribute the attribute
          */
         public void removeAttributeModifier(Attribute attribute) {
+            template = null;
             meta.removeAttributeModifier(attribute);
         }
 
@@ -198,12 +213,14 @@ public class CustomItem extends ExItem {
          * @param modifier  the attribute modifier
          */
         public void removeAttributeModifier(Attribute attribute, AttributeModifier modifier) {
+            template = null;
             meta.removeAttributeModifier(attribute, modifier);
         }
     }
 
     @Override
     public CustomItem id(String id) {
+        template = null;
         super.id(id);
         name = StringUtil.formatId(id);
         return this;
@@ -212,8 +229,8 @@ public class CustomItem extends ExItem {
     /* Getters and setters */
     @Override
     public String getName() {
-        if (getMeta() != null && getMeta().hasDisplayName()) {
-            return getMeta().getDisplayName();
+        if (meta != null && meta.hasDisplayName()) {
+            return meta.getDisplayName();
         } else {
             return name;
         }
@@ -225,15 +242,19 @@ public class CustomItem extends ExItem {
      * @param name the display name to set
      */
     public void setName(String name) {
-        getMeta().setDisplayName(name);
+        template = null;
+        meta.setDisplayName(name);
     }
 
     /**
      * Returns the ItemMeta that will be applied to an {@link org.bukkit.inventory.ItemStack} created from this CustomItem.
+     * <p>
+     * As the returned meta may be modified, this discards the cached {@link #toItemStack(int) ItemStack template}.
      *
      * @return the ItemMeta that will be applied to an {@link org.bukkit.inventory.ItemStack} created from this CustomItem
      */
     public ItemMeta getMeta() {
+        template = null;
         return meta;
     }
 
@@ -243,6 +264,7 @@ public class CustomItem extends ExItem {
      * @param meta the meta data to set
      */
     public void setMeta(ItemMeta meta) {
+        template = null;
         this.meta = meta;
     }
 
@@ -261,6 +283,7 @@ public class CustomItem extends ExItem {
      * @param lore the lore to add
      */
     public void addLore(String lore) {
+        template = null;
         List<String> lines = meta.hasLore() ? meta.getLore() : new ArrayList<>();
         lines.add(ChatColor.translateAlternateColorCodes('&', lore));
         meta.setLore(lines);
@@ -272,6 +295,7 @@ public class CustomItem extends ExItem {
      * @param index the lore index number
      */
     public void removeLore(int index) {
+        template = null;
         if (!meta.hasLore()) {
             return;
         }
@@ -288,6 +312,7 @@ public class CustomItem extends ExItem {
      * @param lore the lore to remove
      */
     public void removeLore(String lore) {
+        template = null;
         if (!meta.hasLore()) {
             return;
         }
@@ -312,6 +337,7 @@ public class CustomItem extends ExItem {
      * @param level       the level of the enchantment
      */
     public void addEnchantment(Enchantment enchantment, int level) {
+        template = null;
         meta.addEnchant(enchantment, level, true);
     }
 
@@ -321,6 +347,7 @@ public class CustomItem extends ExItem {
      * @param enchantment the enchantment
      */
     public void removeEnchantment(Enchantment enchantment) {
+        template = null;
         meta.removeEnchant(enchantment);
     }
 
@@ -339,6 +366,7 @@ public class CustomItem extends ExItem {
      * @param itemFlag the item flag to add
      */
     public void addItemFlag(ItemFlag itemFlag) {
+        template = null;
         meta.addItemFlags(itemFlag);
     }
 
@@ -348,6 +376,7 @@ public class CustomItem extends ExItem {
      * @param itemFlag the item flag to remove
      */
     public void removeItemFlag(ItemFlag itemFlag) {
+        template = null;
         meta.removeItemFlags(itemFlag);
     }
 
@@ -360,6 +389,7 @@ public class CustomItem extends ExItem {
         if (!Version.isAtLeast(Version.MC1_13_2)) {
             return;
         }
+        template = null;
         meta.removeAttributeModifier(slot);
     }
 
@@ -384,6 +414,7 @@ public class CustomItem extends ExItem {
         if (!Version.isAtLeast(Version.MC1_14)) {
             return;
         }
+        template = null;
         meta.setCustomModelData(data);
     }
 
@@ -396,6 +427,81 @@ public class CustomItem extends ExItem {
         return new ArrayList<>(staticAttributes);
     }
 
+    /**
+     * Returns the static attributes that have a {@link CustomAttribute#getDamageHandler() DamageHandler}.
+     *
+     * @return an unmodifiable List of the static attributes that have a DamageHandler
+     */
+    public List<CustomAttribute.Instance> getDamageAttributes() {
+        checkAttributeHandlers();
+        return damageAttributes;
+    }
+
+    /**
+     * Returns the static attributes that have a {@link CustomAttribute#getDropHandler() DropHandler}.
+     *
+     * @return an unmodifiable List of the static attributes that have a DropHandler
+     */
+    public List<CustomAttribute.Instance> getDropAttributes() {
+        checkAttributeHandlers();
+        return dropAttributes;
+    }
+
+    /**
+     * Returns the static attributes that have a {@link CustomAttribute#getHitHandler() HitHandler}.
+     *
+     * @return an unmodifiable List of the static attributes that have a HitHandler
+     */
+    public List<CustomAttribute.Instance> getHitAttributes() {
+        checkAttributeHandlers();
+        return hitAttributes;
+    }
+
+    /**
+     * Returns the static attributes that have a {@link CustomAttribute#getRightClickHandler() RightClickHandler}.
+     *
+     * @return an unmodifiable List of the static attributes that have a RightClickHandler
+     */
+    public List<CustomAttribute.Instance> getRightClickAttributes() {
+        checkAttributeHandlers();
+        return rightClickAttributes;
+    }
+
+    /**
+     * Sorts the static attributes by the action handlers they have.
+     * <p>
+     * This happens automatically when an attribute is added or removed or when a handler is set to an attribute type.
+     */
+    public void updateAttributeHandlers() {
+        handlerVersion = CustomAttribute.getHandlerVersion();
+        List<CustomAttribute.Instance> damage = new ArrayList<>(), drop = new ArrayList<>(), hit = new ArrayList<>(), rightClick = new ArrayList<>();
+        for (CustomAttribute.Instance attribute : staticAttributes) {
+            CustomAttribute<?> type = attribute.getType();
+            if (type.hasDamageHandler()) {
+                damage.add(attribute);
+            }
+            if (type.hasDropHandler()) {
+                drop.add(attribute);
+            }
+            if (type.hasHitHandler()) {
+                hit.add(attribute);
+            }
+            if (type.hasRightClickHandler()) {
+                rightClick.add(attribute);
+            }
+        }
+        damageAttributes = damage.isEmpty() ? Collections.emptyList() : Collections.unmodifiableList(damage);
+        dropAttributes = drop.isEmpty() ? Collections.emptyList() : Collections.unmodifiableList(drop);
+        hitAttributes = hit.isEmpty() ? Collections.emptyList() : Collections.unmodifiableList(hit);
+        rightClickAttributes = rightClick.isEmpty() ? Collections.emptyList() : Collections.unmodifiableList(rightClick);
+    }
+
+    private void checkAttributeHandlers() {
+        if (handlerVersion != CustomAttribute.getHandlerVersion()) {
+            updateAttributeHandlers();
+        }
+    }
+
     /**
      * Adds the given attribute.
      *
@@ -403,6 +509,7 @@ public class CustomItem extends ExItem {
      */
     public void addAttribute(CustomAttribute.Instance attribute) {
         staticAttributes.add(attribute);
+        updateAttributeHandlers();
     }
 
     /**
@@ -423,6 +530,7 @@ public class CustomItem extends ExItem {
      */
     public void removeAttribute(CustomAttribute.Instance attribute) {
         staticAttributes.remove(attribute);
+        updateAttributeHandlers();
     }
 
     /**
@@ -466,10 +574,30 @@ public class CustomItem extends ExItem {
      * @param textureValue the Base64 encoded skull owner texture value
      */
     public void setSkullTexture(String skullOwner, String textureValue) {
+        template = null;
         this.skullOwner = skullOwner;
         this.textureValue = textureValue;
     }
 
+    /**
+     * Returns the SNBT String that is merged into ItemStacks of this item.
+     *
+     * @return the SNBT String that is merged into ItemStacks of this item
+     */
+    public String getNBT() {
+        return nbt;
+    }
+
+    /**
+     * Sets the SNBT String that is merged into ItemStacks of this item.
+     *
+     * @param nbt the SNBT String to set
+     */
+    public void setNBT(String nbt) {
+        template = null;
+        this.nbt = nbt;
+    }
+
     /* Actions */
     /**
      * Registers the item sothat it can be fetched through the getter methods.
@@ -483,7 +611,7 @@ public class CustomItem extends ExItem {
         if (id == null) {
             throw new IllegalStateException("No ID specified");
         }
-        api.getExItems().add((ExItem) id(id));
+        api.register((ExItem) id(id));
         return this;
     }
 
@@ -497,7 +625,7 @@ public class CustomItem extends ExItem {
         if (api.getExItems().contains(this) || api.getExItem(id) != null) {
             throw new IllegalStateException("Item already registered");
         }
-        api.getExItems().add((ExItem) id(id));
+        api.register((ExItem) id(id));
         return this;
     }
 
@@ -528,14 +656,81 @@ public class CustomItem extends ExItem {
         return config;
     }
 
+    /**
+     * Returns an ItemStack representation with the given amount.
+     * <p>
+     * The stack is cloned from a template that is built on first use and rebuilt when the item is changed or its {@link #getUpdateTimestamp() update
+     * timestamp} changes.
+     *
+     * @param amount the amount
+     * @return an ItemStack representation with the given amount
+     */
     @Override
     public ItemStack toItemStack(int amount) {
-        ItemStack itemStack = base.toItemStack(amount);
-        apply(itemStack);
+        ItemStack itemStack = getTemplate().clone();
+        itemStack.setAmount(amount);
         return itemStack;
     }
 
+    /**
+     * Applies the properties of this item to the given ItemStack.
+     * <p>
+     * If the stack has the material of the base item, the item meta of the template is copied, so that the {@link #getNBT() NBT} does not need to be
+     * parsed again.
+     *
+     * @param itemStack the ItemStack to modify
+     */
     public void apply(ItemStack itemStack) {
+        if (itemStack.getType() == getTemplate().getType()) {
+            itemStack.setItemMeta(template.getItemMeta());
+            if (data != Short.MIN_VALUE) {
+                itemStack.setDurability(data);
+            }
+            return;
+        }
+
+        if (nbt != null) {
+            NBT_CACHE_MISSES.increment();
+        }
+        ItemStack prepared = prepare(itemStack);
+        // Setting the skull owner returns a copy
+        if (prepared != itemStack) {
+            itemStack.setItemMeta(prepared.getItemMeta());
+        }
+    }
+
+    private ItemStack getTemplate() {
+        if (template == null || templateTimestamp != updateTimestamp || template.getType() != getMaterial()) {
+            if (nbt != null) {
+                NBT_CACHE_MISSES.increment();
+            }
+            template = prepare(base.toItemStack(1));
+            templateTimestamp = updateTimestamp;
+        } else if (nbt != null) {
+            NBT_CACHE_HITS.increment();
+        }
+        return template;
+    }
+
+    /**
+     * Returns how often an ItemStack of an item with {@link #getNBT() NBT} has been created without parsing the NBT, because the result could be reused.
+     *
+     * @return the amount of NBT cache hits
+     */
+    public static long getNBTCacheHits() {
+        return NBT_CACHE_HITS.sum();
+    }
+
+    /**
+     * Returns how often the NBT of an item has been parsed to create an ItemStack.
+     *
+     * @return the amount of NBT cache misses
+     */
+    public static long getNBTCacheMisses() {
+        return NBT_CACHE_MISSES.sum();
+    }
+
+    private ItemStack prepare(ItemStack itemStack) {
         itemStack.setItemMeta(meta.clone());
         if (data != Short.MIN_VALUE) {
             itemStack.setDurability(data);
@@ -562,6 +757,7 @@ public class CustomItem extends ExItem {
             meta.getPersistentDataContainer().set(Constants.ID, PersistentDataType.STRING, id);
             itemStack.setItemMeta(meta);
         }
+        return itemStack;
     }
 
 }
@@ -18,6 +18,7 @@ import de.erethon.xlib.XLib;
 import de.erethon.xlib.category.Categorizable;
 import de.erethon.xlib.category.Category;
 import de.erethon.xlib.mob.ExMob;
+import de.erethon.xlib.util.ObservedMap;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -45,6 +46,8 @@ public abstract class ExItem extends Categorizable implements ConfigurationSeria
     protected List<Category<ExItem>> categories = new ArrayList<>();
     protected Map<Category<ExMob>, Double> categoryDamageModifiers = new HashMap<>();
     protected Map<ExMob, Double> mobDamageModifiers = new HashMap<>();
+    private Map<Category<ExMob>, Double> categoryDamageModifiersView = new ObservedMap<>(categoryDamageModifiers, this::invalidateDamageModifiers);
+    private Map<ExMob, Double> mobDamageModifiersView = new ObservedMap<>(mobDamageModifiers, this::invalidateDamageModifiers);
 
     /**
      * Loads item properties from the config.
@@ -58,11 +61,7 @@ public abstract class ExItem extends Categorizable implements ConfigurationSeria
         loaded = true;
         this.api = api;
 
-        for (Category<ExItem> category : api.getItemCategories()) {
-            if (category.getElements().contains(this)) {
-                categories.add(category);
-            }
-        }
+        categories.addAll(api.getItemCategories(this));
 
         Object categoryDamageModifiers = raw.get("categoryDamageModifiers");
         if (categoryDamageModifiers instanceof Map) {
@@ -167,11 +166,13 @@ public abstract class ExItem extends Categorizable implements ConfigurationSeria
     /* Damage modifiers */
     /**
      * Returns a Map of mob categories and the modifier damage dealt to them with this item is multiplied with.
+     * <p>
+     * Changes made to the Map mark the compiled damage modifiers as outdated.
      *
      * @return a Map of mob categories and the modifier damage dealt to them with this item is multiplied with
      */
     public Map<Category<ExMob>, Double> getCategoryDamageModifiers() {
-        return categoryDamageModifiers;
+        return categoryDamageModifiersView;
     }
 
     /**
@@ -188,13 +189,30 @@ public abstract class ExItem extends Categorizable implements ConfigurationSeria
         }
     }
 
+    /**
+     * Sets the damage modifier for the given category.
+     *
+     * @param mobCategory the category
+     * @param modifier    the modifier to set; null to remove it
+     */
+    public void setCategoryDamageModifier(Category<ExMob> mobCategory, Double modifier) {
+        if (modifier != null) {
+            categoryDamageModifiers.put(mobCategory, modifier);
+        } else {
+            categoryDamageModifiers.remove(mobCategory);
+        }
+        invalidateDamageModifiers();
+    }
+
     /**
      * Returns a Map of mobs and the modifier damage dealt to them with this item is multiplied with.
+     * <p>
+     * Changes made to the Map mark the compiled damage modifiers as outdated.
      *
      * @return a Map of mobs and the modifier damage dealt to them with this item is multiplied with
      */
     public Map<ExMob, Double> getMobDamageModifiers() {
-        return mobDamageModifiers;
+        return mobDamageModifiersView;
     }
 
     /**
@@ -211,6 +229,51 @@ public abstract class ExItem extends Categorizable implements ConfigurationSeria
         }
     }
 
+    /**
+     * Sets the damage modifier for the given mob.
+     *
+     * @param mob      the mob
+     * @param modifier the modifier to set; null to remove it
+     */
+    public void setMobDamageModifier(ExMob mob, Double modifier) {
+        if (modifier != null) {
+            mobDamageModifiers.put(mob, modifier);
+        } else {
+            mobDamageModifiers.remove(mob);
+        }
+        invalidateDamageModifiers();
+    }
+
+    private void invalidateDamageModifiers() {
+        XLib api = XLib.getInstance();
+        if (api != null) {
+            api.invalidateDamageModifiers();
+        }
+    }
+
+    /**
+     * Returns the modifier damage dealt to the given mob with this item is multiplied with.
+     * <p>
+     * If a modifier is set for the mob itself, it overrides the modifiers of the categories the mob belongs to; if not, the modifiers of all categories that
+     * contain the mob are multiplied.
+     *
+     * @param mob the mob
+     * @return the modifier damage dealt to the given mob with this item is multiplied with
+     */
+    public double getDamageModifier(ExMob mob) {
+        double modifier = getMobDamageModifier(mob);
+        if (modifier != 1) {
+            return modifier;
+        }
+        for (Entry<Category<ExMob>, Double> categoryDamageModifier : categoryDamageModifiers.entrySet()) {
+            Category<ExMob> mobCategory = categoryDamageModifier.getKey();
+            if (mobCategory != null && mobCategory.contains(mob)) {
+                modifier *= categoryDamageModifier.getValue();
+            }
+        }
+        return modifier;
+    }
+
     /**
      * Returns the text of the lore line to use as an identifier.
      *
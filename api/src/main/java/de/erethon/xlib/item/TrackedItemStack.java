@@ -46,7 +46,9 @@ public class TrackedItemStack {
 
     private static long lastKey;
 
+    private XLib api;
     private long dataKey = Long.MIN_VALUE;
+    private boolean tracked;
     private long lastUpdate = Long.MIN_VALUE;
     private CustomItem type;
     private ItemStack wrapped;
@@ -61,6 +63,7 @@ public class TrackedItemStack {
      * @param wrapped the stack to wrap
      */
     public TrackedItemStack(XLib api, CustomItem type, ItemStack wrapped) {
+        this.api = api;
         this.type = type;
         this.wrapped = wrapped;
 
@@ -68,6 +71,7 @@ public class TrackedItemStack {
         PersistentDataContainer container = meta.getPersistentDataContainer();
         if (container.has(DATA_KEY, PersistentDataType.LONG)) {
             dataKey = container.get(DATA_KEY, PersistentDataType.LONG);
+            tracked = true;
         }
 
         if (container.has(LAST_UPDATE, PersistentDataType.LONG)) {
@@ -89,17 +93,23 @@ public class TrackedItemStack {
             if (meta instanceof Damageable) {
                 ((Damageable) meta).setDamage(damage);
             }
+            // The update time is the one of the type, so that stacks updated to the same version still stack
+            lastUpdate = type.getUpdateTimestamp();
+            if (tracked) {
+                container.set(DATA_KEY, PersistentDataType.LONG, dataKey);
+                container.set(LAST_UPDATE, PersistentDataType.LONG, lastUpdate);
+            }
+            // Attributes modify the stack itself, so the meta has to be written first and read again afterwards
+            wrapped.setItemMeta(meta);
             getAttributes().forEach(a -> a.apply(this));
-            lastUpdate = System.currentTimeMillis();
-            container.set(LAST_UPDATE, PersistentDataType.LONG, lastUpdate);
         }
 
-        if (!container.has(DATA_KEY, PersistentDataType.LONG)) {
+        // The key is only written to the stack when it gets stack-specific data, as identical items would not stack anymore
+        if (dataKey == Long.MIN_VALUE) {
             dataKey = System.currentTimeMillis();
             while (dataKey <= lastKey) {
                 dataKey++;
             }
-            container.set(DATA_KEY, PersistentDataType.LONG, dataKey);
             lastKey = dataKey;
         }
     }
@@ -113,6 +123,26 @@ public class TrackedItemStack {
         return dataKey;
     }
 
+    /**
+     * Returns if the {@link #getDataKey() data key} is stored in the stack.
+     * <p>
+     * This is the case as soon as the stack has {@link #getDynamicAttributes() dynamic attributes}.
+     *
+     * @return if the data key is stored in the stack
+     */
+    public boolean isTracked() {
+        return tracked;
+    }
+
+    /**
+     * Returns the time when the stack was updated to match its {@link #getType() type} for the last time.
+     *
+     * @return the time when the stack was updated to match its type for the last time
+     */
+    public long getLastUpdate() {
+        return lastUpdate;
+    }
+
     /**
      * Returns the CustomItem that this stack belongs to.
      *
@@ -131,6 +161,17 @@ public class TrackedItemStack {
         return wrapped;
     }
 
+    /**
+     * Changes the ItemStack wrapped by this TrackedItemStack to another representation of the same stack.
+     *
+     * @param wrapped an ItemStack with the same {@link #getDataKey() data key}
+     * @deprecated for internal use only
+     */
+    @Deprecated
+    public void setWrapped(ItemStack wrapped) {
+        this.wrapped = wrapped;
+    }
+
     /**
      * Returns a copy of the list of attributes, excluding the {@link #getType() type's} {@link CustomItem#getStaticAttributes() static attributes}.
      *
@@ -156,11 +197,24 @@ public class TrackedItemStack {
 
     /**
      * Adds the given attribute.
+     * <p>
+     * If the stack has not had any stack-specific data before, its {@link #getDataKey() data key} is written to it, so that the attribute can be found
+     * when the stack is {@link XLib#wrap(org.bukkit.inventory.ItemStack) wrapped} again.
      *
      * @param attribute the attribute
      */
     public void addAttribute(CustomAttribute.Instance attribute) {
         dynamicAttributes.add(attribute);
+        if (tracked) {
+            return;
+        }
+        ItemMeta meta = wrapped.getItemMeta();
+        PersistentDataContainer container = meta.getPersistentDataContainer();
+        container.set(DATA_KEY, PersistentDataType.LONG, dataKey);
+        container.set(LAST_UPDATE, PersistentDataType.LONG, lastUpdate);
+        wrapped.setItemMeta(meta);
+        tracked = true;
+        api.track(this);
     }
 
     /**
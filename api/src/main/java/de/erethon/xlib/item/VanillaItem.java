@@ -24,7 +24,9 @@ import java.lang.reflect.Field;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
 import org.bukkit.Material;
 import org.bukkit.block.Block;
 import org.bukkit.inventory.ItemStack;
@@ -1376,11 +1378,16 @@ public class VanillaItem extends ExItem {
     private static final Collection<VanillaItem> VALUES = new ArrayList<>();
     private static final Collection<VanillaItem> LOADED = new ArrayList<>();
     private static final Map<Material, VanillaItem> BY_MATERIAL = new HashMap<>();
+    private static final Map<Integer, VanillaItem> BY_NUMERIC_ID = new HashMap<>();
 
     static {
+        long start = System.nanoTime();
+        Set<String> ids = new HashSet<>();
         for (Field constant : VanillaItem.class.getFields()) {
             try {
-                VALUES.add((VanillaItem) constant.get(null));
+                VanillaItem vi = (VanillaItem) constant.get(null);
+                VALUES.add(vi);
+                ids.add(vi.getId());
             } catch (IllegalArgumentException | IllegalAccessException exception) {
                 exception.printStackTrace();
             }
@@ -1388,12 +1395,9 @@ public class VanillaItem extends ExItem {
 
         StringBuilder sb = new StringBuilder("&c[WARNING] XLib lacks a built-in representation of the following materials: ");
         boolean send = false, first = true;
-        bukkitMats:
         for (Material bukkit : Material.values()) {
-            for (VanillaItem caliburn : VALUES) {
-                if (caliburn.getId().equals(bukkit.name())) {
-                    continue bukkitMats;
-                }
+            if (ids.contains(bukkit.name())) {
+                continue;
             }
 
             if (!first) {
@@ -1426,11 +1430,13 @@ public class VanillaItem extends ExItem {
             if (vi.isAvailable()) {
                 LOADED.add(vi);
                 BY_MATERIAL.put(vi.getMaterial(), vi);
+                BY_NUMERIC_ID.putIfAbsent(vi.getNumericId(), vi);
             }
         }
         if (send) {
             MessageUtil.debug(sb.toString());
         }
+        MessageUtil.debug("[XLib] Initialized " + LOADED.size() + " vanilla items in " + (System.nanoTime() - start) / 1000000 + " ms.");
     }
 
     /**
@@ -1464,6 +1470,16 @@ public class VanillaItem extends ExItem {
         return BY_MATERIAL.get(material);
     }
 
+    /**
+     * Returns the first loaded VanillaItem that has the given numeric ID.
+     *
+     * @param numericId a numeric ID as used before Minecraft 1.13
+     * @return the first loaded VanillaItem that has the given numeric ID
+     */
+    public static VanillaItem get(int numericId) {
+        return BY_NUMERIC_ID.get(numericId);
+    }
+
     private Version firstVersion;
     private Version lastVersion;
     private String id1_8;
@@ -1473,6 +1489,10 @@ public class VanillaItem extends ExItem {
     private short data;
     protected Material material;
     private String name;
+    // Legacy IDs are compared whenever an ID is resolved, so they are only built once.
+    private String numericString;
+    private String numericIdAndData;
+    private String oldNameAndData;
 
     protected VanillaItem(String id1_8, String id1_13, int numeric) {
         this(MC1_8_8, id1_8, id1_13, numeric);
@@ -1533,6 +1553,9 @@ public class VanillaItem extends ExItem {
             id = id1_8;
         }
         name = StringUtil.formatId(id1_14);
+        numericString = String.valueOf(numeric);
+        numericIdAndData = data != 0 ? numeric + ":" + data : numericString;
+        oldNameAndData = data != 0 ? id1_8 + ":" + data : id1_8;
     }
 
     /**
@@ -1617,11 +1640,7 @@ public class VanillaItem extends ExItem {
      * @return the numeric ID + the data value if it exists, separated by a ":"
      */
     public String getNumericIdAndData() {
-        if (data != 0) {
-            return numeric + ":" + data;
-        } else {
-            return String.valueOf(numeric);
-        }
+        return numericIdAndData;
     }
 
     /**
@@ -1630,11 +1649,7 @@ public class VanillaItem extends ExItem {
      * @return the old name + the data value if it exists, separated by a ":"
      */
     public String getOldNameAndData() {
-        if (data != 0) {
-            return id1_8 + ":" + data;
-        } else {
-            return id1_8;
-        }
+        return oldNameAndData;
     }
 
     @Override
@@ -1653,7 +1668,7 @@ public class VanillaItem extends ExItem {
 
     @Override
     public ExItem idMatch(String id) {
-        if (id.equals(id1_14) || id.equals(id1_13) || id.equals(getNumericIdAndData()) || id.equals(getOldNameAndData())) {
+        if (id.equals(id1_14) || id.equals(id1_13) || id.equals(numericIdAndData) || id.equals(oldNameAndData)) {
             return this;
         } else {
             return null;
@@ -1662,8 +1677,8 @@ public class VanillaItem extends ExItem {
 
     @Override
     public ExItem idMatch2nd(String id) {
-        if (id.equalsIgnoreCase(id1_14) || id.equalsIgnoreCase(id1_13) || id.equalsIgnoreCase(getNumericIdAndData()) || id.equalsIgnoreCase(getOldNameAndData())
-                || id.equalsIgnoreCase(id1_8) || id.equalsIgnoreCase(String.valueOf(numeric))) {
+        if (id.equalsIgnoreCase(id1_14) || id.equalsIgnoreCase(id1_13) || id.equalsIgnoreCase(numericIdAndData) || id.equalsIgnoreCase(oldNameAndData)
+                || id.equalsIgnoreCase(id1_8) || id.equalsIgnoreCase(numericString)) {
             return this;
         } else {
             return null;
@@ -17,6 +17,8 @@ package de.erethon.xlib.loottable;
 import de.erethon.xlib.XLib;
 import de.erethon.xlib.chat.MessageUtil;
 import de.erethon.xlib.compatibility.Version;
+import de.erethon.xlib.util.ObservedMap;
+import de.erethon.xlib.util.RandomUtil;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
@@ -104,6 +106,7 @@ public class LootTable implements ConfigurationSerializable {
          */
         public void setLootItem(ItemStack item) {
             this.item = item;
+            sampler = null;
         }
 
         /**
@@ -129,7 +132,7 @@ public class LootTable implements ConfigurationSerializable {
                 chance = 100d;
             }
             this.chance = chance;
-
+            sampler = null;
         }
 
         public Map<String, Object> serialize() {
@@ -141,8 +144,96 @@ public class LootTable implements ConfigurationSerializable {
 
     }
 
+    /**
+     * The precompiled form of the entries that is used to generate loot.
+     * <p>
+     * Holds the independent chances as fractions (0-1) and a Vose alias table for picks weighted by the loot chance.
+     */
+    private static class Sampler {
+
+        ItemStack[] items;
+        double[] chances;
+        double[] probabilities;
+        int[] aliases;
+
+        Sampler(Collection<Entry> entries) {
+            int size = entries.size();
+            items = new ItemStack[size];
+            chances = new double[size];
+            double total = 0d;
+            int i = 0;
+            for (Entry entry : entries) {
+                items[i] = entry.getLootItem();
+                chances[i] = entry.getLootChance() / 100d;
+                total += chances[i];
+                i++;
+            }
+
+            if (total <= 0d) {
+                return;
+            }
+            probabilities = new double[size];
+            aliases = new int[size];
+            double[] scaled = new double[size];
+            int[] small = new int[size];
+            int[] large = new int[size];
+            int smallSize = 0, largeSize = 0;
+            for (i = 0; i < size; i++) {
+                scaled[i] = chances[i] * size / total;
+                if (scaled[i] < 1d) {
+                    small[smallSize++] = i;
+                } else {
+                    large[largeSize++] = i;
+                }
+            }
+            while (smallSize > 0 && largeSize > 0) {
+                int less = small[--smallSize];
+                int more = large[--largeSize];
+                probabilities[less] = scaled[less];
+                aliases[less] = more;
+                scaled[more] = scaled[more] + scaled[less] - 1d;
+                if (scaled[more] < 1d) {
+                    small[smallSize++] = more;
+                } else {
+                    large[largeSize++] = more;
+                }
+            }
+            // Leftovers are 1 except for rounding errors
+            while (largeSize > 0) {
+                probabilities[large[--largeSize]] = 1d;
+            }
+            while (smallSize > 0) {
+                probabilities[small[--smallSize]] = 1d;
+            }
+        }
+
+        List<ItemStack> roll() {
+            Random random = RandomUtil.get();
+            List<ItemStack> lootList = new ArrayList<>();
+            for (int i = 0; i < chances.length; i++) {
+                if (random.nextDouble() < chances[i]) {
+                    lootList.add(items[i]);
+                }
+            }
+            return lootList;
+        }
+
+        ItemStack pick() {
+            if (probabilities == null) {
+                return null;
+            }
+            Random random = RandomUtil.get();
+            int i = random.nextInt(probabilities.length);
+            return random.nextDouble() < probabilities[i] ? items[i] : items[aliases[i]];
+        }
+
+    }
+
     private String name;
     private Map<String, Entry> entries = new HashMap<>();
+    private volatile Sampler sampler;
+    // Removing entries through getEntries() discards the sampler as well
+    private Map<String, Entry> entriesView = new ObservedMap<>(entries, () -> sampler = null);
 
     /**
      * Initializes a new loot table with the given name.
@@ -178,6 +269,7 @@ public class LootTable implements ConfigurationSerializable {
                 MessageUtil.log(ChatColor.RED + "Skipping erroneous loot table entry \"" + mapEntry.getKey() + "\".");
             }
         }
+        deserialized.getSampler();
         return deserialized;
     }
 
@@ -206,11 +298,13 @@ public class LootTable implements ConfigurationSerializable {
 
     /**
      * Returns a Collection of the loot table entries.
+     * <p>
+     * Entries removed from the Collection are removed from the loot table.
      *
      * @return the entries
      */
     public Collection<Entry> getEntries() {
-        return entries.values();
+        return entriesView.values();
     }
 
     /**
@@ -236,6 +330,7 @@ public class LootTable implements ConfigurationSerializable {
         }
         entry = new Entry(id, null, 100d);
         entries.put(id, entry);
+        sampler = null;
         return entry;
     }
 
@@ -249,6 +344,7 @@ public class LootTable implements ConfigurationSerializable {
             return;
         }
         entries.put(entry.getId(), entry);
+        sampler = null;
     }
 
     /**
@@ -261,6 +357,7 @@ public class LootTable implements ConfigurationSerializable {
             return;
         }
         entries.remove(entry.getId());
+        sampler = null;
     }
 
     /**
@@ -364,18 +461,34 @@ public class LootTable implements ConfigurationSerializable {
 
     /* Actions */
     /**
-     * Adds loot to a list randomly based on the chance value
+     * Adds loot to a list randomly based on the chance value.
+     * <p>
+     * Each entry is rolled independently. Fractional chances are supported.
      *
      * @return a list of the loot
      */
     public List<ItemStack> generateLootList() {
-        List<ItemStack> lootList = new ArrayList<>();
-        for (Entry entry : entries.values()) {
-            if (new Random().nextInt(100) < entry.getLootChance()) {
-                lootList.add(entry.getLootItem());
-            }
+        return getSampler().roll();
+    }
+
+    /**
+     * Picks exactly one loot item, using the loot chances as relative weights.
+     * <p>
+     * Takes constant time regardless of the amount of entries.
+     *
+     * @return the picked loot item; null if the table is empty or all chances are 0
+     */
+    public ItemStack pickLoot() {
+        return getSampler().pick();
+    }
+
+    private Sampler getSampler() {
+        Sampler sampler = this.sampler;
+        if (sampler == null) {
+            sampler = new Sampler(entries.values());
+            this.sampler = sampler;
         }
-        return lootList;
+        return sampler;
     }
 
     @Override
@@ -687,7 +687,7 @@ public class CustomMob extends ExMob {
         if (id == null) {
             throw new IllegalStateException("No ID specified");
         }
-        api.getExMobs().add((CustomMob) id(id));
+        api.register((ExMob) id(id));
         return this;
     }
 
@@ -701,7 +701,7 @@ public class CustomMob extends ExMob {
         if (api.getExMobs().contains(this) || api.getExMob(id) != null) {
             throw new IllegalStateException("Mob already registered");
         }
-        api.getExMobs().add((CustomMob) id(id));
+        api.register((ExMob) id(id));
         return this;
     }
 
@@ -825,6 +825,8 @@ public class CustomMob extends ExMob {
         } else if (idType == IdentifierType.PERSISTENT_DATA_CONTAINER && Version.isAtLeast(Version.MC1_14)) {
             entity.getPersistentDataContainer().set(new NamespacedKey("caliburn", "id"), PersistentDataType.STRING, id);
         }
+        // Spawn listeners might have resolved the entity before it was tagged
+        api.invalidateExMob(entity);
 
         if (!(entity instanceof LivingEntity)) {
             return entity;
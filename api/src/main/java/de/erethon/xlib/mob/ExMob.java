@@ -18,6 +18,7 @@ import de.erethon.xlib.XLib;
 import de.erethon.xlib.category.Categorizable;
 import de.erethon.xlib.category.Category;
 import de.erethon.xlib.item.ExItem;
+import de.erethon.xlib.util.ObservedMap;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -42,6 +43,8 @@ public abstract class ExMob extends Categorizable implements ConfigurationSerial
     protected List<Category<ExMob>> categories = new ArrayList<>();
     protected Map<Category<ExItem>, Double> categoryDamageModifiers = new HashMap<>();
     protected Map<ExItem, Double> itemDamageModifiers = new HashMap<>();
+    private Map<Category<ExItem>, Double> categoryDamageModifiersView = new ObservedMap<>(categoryDamageModifiers, this::invalidateDamageModifiers);
+    private Map<ExItem, Double> itemDamageModifiersView = new ObservedMap<>(itemDamageModifiers, this::invalidateDamageModifiers);
 
     /**
      * Loads mob properties from the config.
@@ -49,11 +52,8 @@ public abstract class ExMob extends Categorizable implements ConfigurationSerial
      * @param api the API instance to inject
      */
     public void load(XLib api) {
-        for (Category<ExMob> category : api.getMobCategories()) {
-            if (category.getElements().contains(this)) {
-                categories.add(category);
-            }
-        }
+        categories.clear();
+        categories.addAll(api.getMobCategories(this));
 
         Object categoryDamageModifiers = raw.get("categoryDamageModifiers");
         if (categoryDamageModifiers instanceof Map) {
@@ -148,11 +148,13 @@ public abstract class ExMob extends Categorizable implements ConfigurationSerial
     /* Damage modifiers */
     /**
      * Returns a Map of item categories and the modifier damage dealt to them with this item is multiplied with.
+     * <p>
+     * Changes made to the Map mark the compiled damage modifiers as outdated.
      *
      * @return a Map of item categories and the modifier damage dealt to them with this item is multiplied with
      */
     public Map<Category<ExItem>, Double> getCategoryDamageModifiers() {
-        return categoryDamageModifiers;
+        return categoryDamageModifiersView;
     }
 
     /**
@@ -170,13 +172,30 @@ public abstract class ExMob extends Categorizable implements ConfigurationSerial
         }
     }
 
+    /**
+     * Sets the damage modifier for the given category.
+     *
+     * @param itemCategory the category
+     * @param modifier     the modifier to set; null to remove it
+     */
+    public void setCategoryDamageModifier(Category<ExItem> itemCategory, Double modifier) {
+        if (modifier != null) {
+            categoryDamageModifiers.put(itemCategory, modifier);
+        } else {
+            categoryDamageModifiers.remove(itemCategory);
+        }
+        invalidateDamageModifiers();
+    }
+
     /**
      * Returns a Map of items and the modifier damage dealt to them with this item is multiplied with.
+     * <p>
+     * Changes made to the Map mark the compiled damage modifiers as outdated.
      *
      * @return a Map of items and the modifier damage dealt to them with this item is multiplied with
      */
     public Map<ExItem, Double> getItemDamageModifiers() {
-        return itemDamageModifiers;
+        return itemDamageModifiersView;
     }
 
     /**
@@ -194,6 +213,51 @@ public abstract class ExMob extends Categorizable implements ConfigurationSerial
         }
     }
 
+    /**
+     * Sets the damage modifier for the given item.
+     *
+     * @param item     the item
+     * @param modifier the modifier to set; null to remove it
+     */
+    public void setItemDamageModifier(ExItem item, Double modifier) {
+        if (modifier != null) {
+            itemDamageModifiers.put(item, modifier);
+        } else {
+            itemDamageModifiers.remove(item);
+        }
+        invalidateDamageModifiers();
+    }
+
+    private void invalidateDamageModifiers() {
+        XLib api = XLib.getInstance();
+        if (api != null) {
+            api.invalidateDamageModifiers();
+        }
+    }
+
+    /**
+     * Returns the modifier damage dealt to this mob with the given item is multiplied with.
+     * <p>
+     * If a modifier is set for the item itself, it overrides the modifiers of the categories the item belongs to; if not, the modifiers of all categories that
+     * contain the item are multiplied.
+     *
+     * @param item the item
+     * @return the modifier damage dealt to this mob with the given item is multiplied with
+     */
+    public double getDamageModifier(ExItem item) {
+        double modifier = getItemDamageModifier(item);
+        if (modifier != 1) {
+            return modifier;
+        }
+        for (Entry<Category<ExItem>, Double> categoryDamageModifier : categoryDamageModifiers.entrySet()) {
+            Category<ExItem> itemCategory = categoryDamageModifier.getKey();
+            if (itemCategory != null && itemCategory.contains(item)) {
+                modifier *= categoryDamageModifier.getValue();
+            }
+        }
+        return modifier;
+    }
+
     /* Actions */
     @Override
     public Map<String, Object> serialize() {
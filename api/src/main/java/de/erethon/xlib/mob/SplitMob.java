@@ -15,7 +15,7 @@
 package de.erethon.xlib.mob;
 
 import de.erethon.xlib.compatibility.Version;
-import java.util.Random;
+import de.erethon.xlib.util.RandomUtil;
 import org.bukkit.Location;
 import org.bukkit.entity.Entity;
 import org.bukkit.entity.EntityType;
@@ -86,7 +86,7 @@ public class SplitMob extends VanillaMob {
             } else if (MULE.getId1_13().equals(getId1_13())) {
                 ((Horse) entity).setVariant(Horse.Variant.MULE);
             } else if (CAT.getId1_13().equals(getId1_13())) {
-                ((Ocelot) entity).setCatType(Ocelot.Type.values()[new Random().nextInt(3)]);
+                ((Ocelot) entity).setCatType(Ocelot.Type.values()[RandomUtil.nextInt(3)]);
             }
         }
         return entity;
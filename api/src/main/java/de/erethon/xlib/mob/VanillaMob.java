@@ -24,7 +24,9 @@ import java.lang.reflect.Field;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
 import org.bukkit.Location;
 import org.bukkit.entity.Entity;
 import org.bukkit.entity.EntityType;
@@ -193,11 +195,16 @@ public class VanillaMob extends ExMob {
     private static final Collection<VanillaMob> VALUES = new ArrayList<>();
     private static final Collection<VanillaMob> LOADED = new ArrayList<>();
     private static final Map<EntityType, VanillaMob> BY_ENTITY_TYPE = new HashMap<>();
+    private static final Map<Integer, VanillaMob> BY_NUMERIC_ID = new HashMap<>();
 
     static {
+        long start = System.nanoTime();
+        Set<String> bukkitNames = new HashSet<>();
         for (Field constant : VanillaMob.class.getFields()) {
             try {
-                VALUES.add((VanillaMob) constant.get(null));
+                VanillaMob vm = (VanillaMob) constant.get(null);
+                VALUES.add(vm);
+                bukkitNames.add(vm.getBukkitName());
             } catch (IllegalArgumentException | IllegalAccessException exception) {
                 exception.printStackTrace();
             }
@@ -205,12 +212,11 @@ public class VanillaMob extends ExMob {
 
         StringBuilder sb = new StringBuilder("&c[WARNING] XLib lacks a built-in representation of the following mobs: ");
         boolean send = false, first = true;
-        bukkitMobs:
+        Set<String> entityTypes = new HashSet<>();
         for (EntityType bukkit : EntityType.values()) {
-            for (VanillaMob caliburn : VALUES) {
-                if (caliburn.getBukkitName().equals(bukkit.name())) {
-                    continue bukkitMobs;
-                }
+            entityTypes.add(bukkit.name());
+            if (bukkitNames.contains(bukkit.name())) {
+                continue;
             }
 
             if (!first) {
@@ -230,24 +236,26 @@ public class VanillaMob extends ExMob {
         send = false;
         first = true;
         for (VanillaMob vm : VALUES) {
-            if (!EnumUtil.isValidEnum(EntityType.class, vm.getName()) && vm.isAvailable()) {
+            if (!entityTypes.contains(vm.getBukkitName()) && vm.isAvailable()) {
                 if (!first) {
                     sb.append(", ");
                 } else {
                     first = false;
                 }
-                sb.append(vm.getName());
+                sb.append(vm.getBukkitName());
                 send = true;
                 continue;
             }
             if (vm.isAvailable()) {
                 LOADED.add(vm);
-                BY_ENTITY_TYPE.put(vm.getSpecies(), vm);
+                BY_ENTITY_TYPE.putIfAbsent(vm.getSpecies(), vm);
+                BY_NUMERIC_ID.putIfAbsent(vm.getNumericId(), vm);
             }
         }
         if (send) {
             MessageUtil.debug(sb.toString());
         }
+        MessageUtil.debug("[XLib] Initialized " + LOADED.size() + " vanilla mobs in " + (System.nanoTime() - start) / 1000000 + " ms.");
     }
 
     /**
@@ -281,6 +289,16 @@ public class VanillaMob extends ExMob {
         return BY_ENTITY_TYPE.get(entityType);
     }
 
+    /**
+     * Returns the first loaded VanillaMob that has the given numeric ID.
+     *
+     * @param numericId a numeric ID as used before Minecraft 1.13
+     * @return the first loaded VanillaMob that has the given numeric ID
+     */
+    public static VanillaMob get(int numericId) {
+        return BY_NUMERIC_ID.get(numericId);
+    }
+
     private Version firstVersion;
     private Version lastVersion;
     private String id1_8;
@@ -0,0 +1,294 @@
+/*
+ * Copyright (C) 2015-2026 Daniel Saukel.
+ *
+ * This library is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU Lesser General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE. See the GNULesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with
+ * this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.erethon.xlib.util;
+
+import de.erethon.xlib.chat.MessageUtil;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.CRC32;
+import org.bukkit.Bukkit;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.InvalidConfigurationException;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.bukkit.util.io.BukkitObjectInputStream;
+import org.bukkit.util.io.BukkitObjectOutputStream;
+
+/**
+ * A binary cache of the values of YAML data files.
+ * <p>
+ * A cached entry is used instead of parsing the file again as long as the last modification time and the size of the file are unchanged. Files that were
+ * modified shortly before they were read could be changed again without a new modification time, so their entries are only used if the CRC32 checksum of the
+ * file still matches. Serializable objects are stored with Bukkit's object streams; the cache is discarded if the server version changes.
+ * <p>
+ * {@link #load(File)} may be called concurrently.
+ *
+ * @author Daniel Saukel
+ */
+public class DataSnapshot {
+
+    private static final int FORMAT_VERSION = 3;
+    /**
+     * The coarsest modification time resolution of common file systems.
+     */
+    private static final long MTIME_PRECISION = 2000;
+
+    private File file;
+    private Map<String, Entry> entries = new HashMap<>();
+    private Map<String, Entry> used = new ConcurrentHashMap<>();
+    private volatile boolean modified;
+
+    private static class Entry {
+
+        long lastModified;
+        long length;
+        long checksum;
+        boolean racy;
+        byte[] values;
+
+        Entry(long lastModified, long length, long checksum, boolean racy, byte[] values) {
+            this.lastModified = lastModified;
+            this.length = length;
+            this.checksum = checksum;
+            this.racy = racy;
+            this.values = values;
+        }
+
+    }
+
+    /**
+     * Reads the snapshot file if it exists.
+     *
+     * @param file the snapshot file
+     */
+    public DataSnapshot(File file) {
+        this.file = file;
+        if (!file.exists()) {
+            return;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+            if (in.readInt() != FORMAT_VERSION || !in.readUTF().equals(Bukkit.getBukkitVersion())) {
+                return;
+            }
+            // Sizes are checked against the file size, so that a damaged file cannot make the snapshot allocate arbitrary amounts of memory
+            long fileLength = file.length();
+            int size = in.readInt();
+            if (size < 0 || size > fileLength) {
+                throw new IOException("Invalid entry count " + size);
+            }
+            for (int i = 0; i < size; i++) {
+                String path = in.readUTF();
+                long lastModified = in.readLong();
+                long length = in.readLong();
+                long checksum = in.readLong();
+                boolean racy = in.readBoolean();
+                int valuesLength = in.readInt();
+                if (valuesLength < 0 || valuesLength > fileLength) {
+                    throw new IOException("Invalid entry size " + valuesLength);
+                }
+                byte[] values = new byte[valuesLength];
+                in.readFully(values);
+                entries.put(path, new Entry(lastModified, length, checksum, racy, values));
+            }
+        } catch (IOException | RuntimeException exception) {
+            MessageUtil.log("[XLib] The data snapshot is corrupted and will be rebuilt.");
+            entries.clear();
+        }
+    }
+
+    /**
+     * Returns the values of the YAML file like {@link YamlConfiguration#getValues(boolean) YamlConfiguration.loadConfiguration(file).getValues(false)}.
+     * <p>
+     * The values are restored from the snapshot if the file has not changed since it has been stored.
+     *
+     * @param source the YAML file
+     * @return the values of the YAML file
+     */
+    public Map<String, Object> load(File source) {
+        String path = source.getPath();
+        long lastModified = source.lastModified();
+        long length = source.length();
+        byte[] content = null;
+
+        Entry entry = entries.get(path);
+        if (entry != null && entry.lastModified == lastModified && entry.length == length) {
+            if (entry.racy) {
+                content = read(source);
+                entry = content != null && checksum(content) == entry.checksum ? verify(entry, content.length) : null;
+            }
+            if (entry != null) {
+                try {
+                    Map<String, Object> values = toSections(deserialize(entry.values));
+                    used.put(path, entry);
+                    return values;
+                } catch (IOException | ClassNotFoundException | RuntimeException exception) {
+                    MessageUtil.debug("[XLib] Could not restore \"" + path + "\" from the data snapshot: " + exception);
+                }
+            }
+        }
+
+        if (content == null) {
+            content = read(source);
+            if (content == null) {
+                return YamlConfiguration.loadConfiguration(source).getValues(false);
+            }
+        }
+        // The bytes have already been read for the checksum, so they are parsed directly.
+        YamlConfiguration config = new YamlConfiguration();
+        try {
+            config.loadFromString(new String(content, StandardCharsets.UTF_8));
+        } catch (InvalidConfigurationException exception) {
+            MessageUtil.log("[XLib] Could not load \"" + path + "\":");
+            exception.printStackTrace();
+            return config.getValues(false);
+        }
+        Map<String, Object> values = config.getValues(false);
+        boolean racy = System.currentTimeMillis() - lastModified < MTIME_PRECISION;
+        try {
+            used.put(path, new Entry(lastModified, content.length, checksum(content), racy, serialize(toMaps(values))));
+        } catch (IOException | RuntimeException exception) {
+            MessageUtil.debug("[XLib] Could not store \"" + path + "\" in the data snapshot: " + exception);
+        }
+        modified = true;
+        return values;
+    }
+
+    private static byte[] read(File source) {
+        try {
+            return Files.readAllBytes(source.toPath());
+        } catch (IOException exception) {
+            return null;
+        }
+    }
+
+    private static long checksum(byte[] content) {
+        CRC32 crc = new CRC32();
+        crc.update(content);
+        return crc.getValue();
+    }
+
+    /**
+     * Returns an entry that does not need to be checked again if enough time has passed since the modification for another change to get a new
+     * modification time.
+     */
+    private Entry verify(Entry entry, int length) {
+        if (System.currentTimeMillis() - entry.lastModified < MTIME_PRECISION) {
+            return entry;
+        }
+        modified = true;
+        return new Entry(entry.lastModified, length, entry.checksum, false, entry.values);
+    }
+
+    /**
+     * Writes the entries of all files that have been loaded since the snapshot was read to the snapshot file.
+     * <p>
+     * Does nothing if all files could be restored from the snapshot.
+     */
+    public void save() {
+        if (!modified && used.keySet().equals(entries.keySet())) {
+            return;
+        }
+        file.getParentFile().mkdirs();
+        // The snapshot is written to a temporary file first, so that a crash cannot leave a partially written snapshot behind
+        File temp = new File(file.getParentFile(), file.getName() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temp)))) {
+            out.writeInt(FORMAT_VERSION);
+            out.writeUTF(Bukkit.getBukkitVersion());
+            out.writeInt(used.size());
+            for (Map.Entry<String, Entry> mapEntry : used.entrySet()) {
+                Entry entry = mapEntry.getValue();
+                out.writeUTF(mapEntry.getKey());
+                out.writeLong(entry.lastModified);
+                out.writeLong(entry.length);
+                out.writeLong(entry.checksum);
+                out.writeBoolean(entry.racy);
+                out.writeInt(entry.values.length);
+                out.write(entry.values);
+            }
+        } catch (IOException exception) {
+            MessageUtil.log("[XLib] Could not save the data snapshot:");
+            exception.printStackTrace();
+            temp.delete();
+            return;
+        }
+        try {
+            try {
+                Files.move(temp.toPath(), file.toPath(), StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException exception) {
+                Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException exception) {
+            MessageUtil.log("[XLib] Could not save the data snapshot:");
+            exception.printStackTrace();
+            temp.delete();
+            return;
+        }
+        entries = new HashMap<>(used);
+        modified = false;
+    }
+
+    private static byte[] serialize(Map<String, Object> values) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (BukkitObjectOutputStream out = new BukkitObjectOutputStream(bytes)) {
+            out.writeObject(values);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static Map<String, Object> deserialize(byte[] values) throws IOException, ClassNotFoundException {
+        try (BukkitObjectInputStream in = new BukkitObjectInputStream(new ByteArrayInputStream(values))) {
+            return (Map<String, Object>) in.readObject();
+        }
+    }
+
+    // Sections are not serializable, so they are stored as plain Maps...
+    private static Map<String, Object> toMaps(Map<String, Object> values) {
+        Map<String, Object> maps = new LinkedHashMap<>();
+        for (Map.Entry<String, Object> entry : values.entrySet()) {
+            Object value = entry.getValue();
+            maps.put(entry.getKey(), value instanceof ConfigurationSection ? toMaps(((ConfigurationSection) value).getValues(false)) : value);
+        }
+        return maps;
+    }
+
+    // ...and turned back into sections the same way YamlConfiguration does it.
+    private static Map<String, Object> toSections(Map<String, Object> values) {
+        YamlConfiguration config = new YamlConfiguration();
+        for (Map.Entry<String, Object> entry : values.entrySet()) {
+            if (entry.getValue() instanceof Map) {
+                config.createSection(entry.getKey(), (Map<?, ?>) entry.getValue());
+            } else {
+                config.set(entry.getKey(), entry.getValue());
+            }
+        }
+        return config.getValues(false);
+    }
+
+}
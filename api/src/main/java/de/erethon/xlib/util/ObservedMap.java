@@ -0,0 +1,128 @@
+/*
+ * Copyright (C) 2015-2026 Daniel Saukel.
+ *
+ * This library is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU Lesser General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE. See the GNULesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with
+ * this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.erethon.xlib.util;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A write-through view of a Map that runs a callback whenever the Map is changed through it, including changes made through its entry, key and value views.
+ *
+ * @param <K> the type of the keys
+ * @param <V> the type of the values
+ * @author Daniel Saukel
+ */
+public class ObservedMap<K, V> extends AbstractMap<K, V> {
+
+    private Map<K, V> map;
+    private Runnable onChange;
+
+    private Set<Entry<K, V>> entrySet = new AbstractSet<Entry<K, V>>() {
+        @Override
+        public Iterator<Entry<K, V>> iterator() {
+            Iterator<Entry<K, V>> iterator = map.entrySet().iterator();
+            return new Iterator<Entry<K, V>>() {
+                @Override
+                public boolean hasNext() {
+                    return iterator.hasNext();
+                }
+
+                @Override
+                public Entry<K, V> next() {
+                    Entry<K, V> entry = iterator.next();
+                    return new SimpleEntry<K, V>(entry) {
+                        @Override
+                        public V setValue(V value) {
+                            super.setValue(value);
+                            V old = entry.setValue(value);
+                            onChange.run();
+                            return old;
+                        }
+                    };
+                }
+
+                @Override
+                public void remove() {
+                    iterator.remove();
+                    onChange.run();
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return map.size();
+        }
+    };
+
+    /**
+     * @param map      the backing Map
+     * @param onChange called after each change
+     */
+    public ObservedMap(Map<K, V> map, Runnable onChange) {
+        this.map = map;
+        this.onChange = onChange;
+    }
+
+    @Override
+    public Set<Entry<K, V>> entrySet() {
+        return entrySet;
+    }
+
+    @Override
+    public int size() {
+        return map.size();
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return map.containsKey(key);
+    }
+
+    @Override
+    public V get(Object key) {
+        return map.get(key);
+    }
+
+    @Override
+    public V put(K key, V value) {
+        V old = map.put(key, value);
+        onChange.run();
+        return old;
+    }
+
+    @Override
+    public V remove(Object key) {
+        if (!map.containsKey(key)) {
+            return null;
+        }
+        V old = map.remove(key);
+        onChange.run();
+        return old;
+    }
+
+    @Override
+    public void clear() {
+        if (map.isEmpty()) {
+            return;
+        }
+        map.clear();
+        onChange.run();
+    }
+
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright (C) 2015-2026 Daniel Saukel.
+ *
+ * This library is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU Lesser General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE. See the GNULesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with
+ * this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.erethon.xlib.util;
+
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * The random number source shared by all randomized XLib code.
+ * <p>
+ * By default, this is backed by {@link ThreadLocalRandom}, which neither needs to be seeded nor contends between threads. A seed may be set to make the
+ * numbers reproducible, e.g. in tests.
+ *
+ * @author Daniel Saukel
+ */
+public class RandomUtil {
+
+    private static volatile ThreadLocal<Random> seeded;
+
+    /**
+     * Returns the random number generator for the current thread.
+     * <p>
+     * The instance must not be shared with other threads.
+     *
+     * @return the random number generator for the current thread
+     */
+    public static Random get() {
+        ThreadLocal<Random> seeded = RandomUtil.seeded;
+        return seeded != null ? seeded.get() : ThreadLocalRandom.current();
+    }
+
+    /**
+     * Makes the random numbers reproducible.
+     * <p>
+     * Each thread gets its own generator that is initialized with the given seed.
+     *
+     * @param seed the seed
+     */
+    public static void setSeed(long seed) {
+        seeded = ThreadLocal.withInitial(() -> new Random(seed));
+    }
+
+    /**
+     * Switches back to unseeded random numbers.
+     */
+    public static void clearSeed() {
+        seeded = null;
+    }
+
+    /**
+     * Returns if a seed is set.
+     *
+     * @return if a seed is set
+     */
+    public static boolean isSeeded() {
+        return seeded != null;
+    }
+
+    /**
+     * Returns a random int from the current source of random numbers.
+     *
+     * @param bound the upper bound (exclusive); must be positive
+     * @return a random int between 0 (inclusive) and the bound (exclusive)
+     */
+    public static int nextInt(int bound) {
+        return get().nextInt(bound);
+    }
+
+    /**
+     * Returns a random double from the current source of random numbers.
+     *
+     * @return a random double between 0 (inclusive) and 1 (exclusive)
+     */
+    public static double nextDouble() {
+        return get().nextDouble();
+    }
+
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright (C) 2015-2026 Daniel Saukel.
+ *
+ * This library is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU Lesser General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY
+ * WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE. See the GNULesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with
+ * this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.erethon.xlib.runtime;
+
+import de.erethon.xlib.XLib;
+import de.erethon.xlib.chat.MessageUtil;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Watches the data folder and reloads data files that have been created, modified or deleted.
+ * <p>
+ * Changes are collected for a short time so that a file that is saved in several steps is only reloaded once and so that changes that require all content to
+ * be reloaded only cause a single reload. The files are reloaded on the main thread.
+ *
+ * @author Daniel Saukel
+ */
+public class DataFileWatcher implements Runnable {
+
+    /**
+     * The time in ticks changes are collected for before they are applied.
+     */
+    public static final long DELAY = 20L;
+
+    private XLibRuntime plugin;
+    private XLib api;
+    private WatchService watchService;
+    private Map<WatchKey, Path> directories = new ConcurrentHashMap<>();
+    private Set<File> changed = new LinkedHashSet<>();
+    private boolean scheduled;
+    private Thread thread;
+
+    public DataFileWatcher(XLibRuntime plugin) {
+        this.plugin = plugin;
+        api = plugin.getAPI();
+    }
+
+    /**
+     * Starts watching the data folder.
+     *
+     * @throws IOException if the WatchService cannot be created
+     */
+    public void start() throws IOException {
+        watchService = FileSystems.getDefault().newWatchService();
+        registerAll(api.getDataFolder().toPath());
+        thread = new Thread(this, "XLib Data File Watcher");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Stops watching the data folder.
+     */
+    public void stop() {
+        if (thread != null) {
+            thread.interrupt();
+        }
+        try {
+            if (watchService != null) {
+                watchService.close();
+            }
+        } catch (IOException exception) {
+            exception.printStackTrace();
+        }
+    }
+
+    private void registerAll(Path root) throws IOException {
+        List<Path> toRegister;
+        try (Stream<Path> paths = Files.walk(root)) {
+            toRegister = paths.filter(Files::isDirectory).collect(Collectors.toList());
+        }
+        for (Path directory : toRegister) {
+            WatchKey key = directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY,
+                    StandardWatchEventKinds.ENTRY_DELETE);
+            directories.put(key, directory);
+        }
+    }
+
+    @Override
+    public void run() {
+        while (!Thread.currentThread().isInterrupted()) {
+            WatchKey key;
+            try {
+                key = watchService.take();
+            } catch (InterruptedException | ClosedWatchServiceException exception) {
+                return;
+            }
+
+            Path directory = directories.get(key);
+            if (directory != null) {
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                        continue;
+                    }
+                    Path path = directory.resolve((Path) event.context());
+                    if (event.kind() == StandardWatchEventKinds.ENTRY_CREATE && Files.isDirectory(path)) {
+                        try {
+                            registerAll(path);
+                        } catch (IOException exception) {
+                            MessageUtil.log("[XLib] Could not watch \"" + path + "\": " + exception.getMessage());
+                        }
+                    } else {
+                        queue(path.toFile());
+                    }
+                }
+            }
+
+            if (!key.reset()) {
+                directories.remove(key);
+            }
+        }
+    }
+
+    private synchronized void queue(File file) {
+        changed.add(file);
+        if (!scheduled) {
+            scheduled = true;
+            plugin.getServer().getScheduler().runTaskLater(plugin, this::apply, DELAY);
+        }
+    }
+
+    private void apply() {
+        List<File> files;
+        synchronized (this) {
+            files = new ArrayList<>(changed);
+            changed.clear();
+            scheduled = false;
+        }
+        for (File file : files) {
+            MessageUtil.debug("[XLib] Reloading data file \"" + file.getName() + "\"...");
+        }
+        api.reloadDataFiles(files);
+    }
+
+}
@@ -31,6 +31,8 @@ import org.bukkit.inventory.meta.SkullMeta;
  */
 public class ItemBox {
 
+    private static ItemStack chestHead;
+
     private XLibRuntime plugin;
     private XLib api;
     private IConfig config;
@@ -63,10 +65,17 @@ public class ItemBox {
      * @return the box
      */
     public ItemStack toItemStack(int amount) {
-        ItemStack itemStack = VanillaItem.PLAYER_HEAD.toItemStack(amount);
+        // Setting the owner by name may require a profile lookup, so the head is only built once.
+        if (chestHead == null) {
+            chestHead = VanillaItem.PLAYER_HEAD.toItemStack(1);
+            SkullMeta meta = (SkullMeta) chestHead.getItemMeta();
+            meta.setOwner("MHF_Chest");
+            chestHead.setItemMeta(meta);
+        }
+        ItemStack itemStack = chestHead.clone();
+        itemStack.setAmount(amount);
         SkullMeta meta = (SkullMeta) itemStack.getItemMeta();
         meta.setDisplayName(config.getBoxName());
-        meta.setOwner("MHF_Chest");
         meta.setLore(Arrays.asList(item.getIdLore()));
         itemStack.setItemMeta(meta);
         return itemStack;
@@ -15,6 +15,7 @@
 package de.erethon.xlib.runtime;
 
 import de.erethon.xlib.XLib;
+import de.erethon.xlib.chat.MessageUtil;
 import de.erethon.xlib.command.DRECommandRegistry;
 import de.erethon.xlib.compatibility.Version;
 import de.erethon.xlib.config.CommonMessage;
@@ -39,6 +40,7 @@ import de.erethon.xlib.runtime.listener.ItemListener;
 import de.erethon.xlib.runtime.listener.MobListener;
 import de.erethon.xlib.spiget.comparator.VersionComparator;
 import java.io.File;
+import java.io.IOException;
 import org.bukkit.ChatColor;
 import org.bukkit.plugin.java.JavaPlugin;
 
@@ -67,6 +69,7 @@ public class XLibRuntime extends JavaPlugin {
     private PluginInit init;
 
     private IConfig iConfig;
+    private DataFileWatcher dataFileWatcher;
 
     @Override
     public void onEnable() {
@@ -74,6 +77,8 @@ public class XLibRuntime extends JavaPlugin {
         dataFolder = new File(getDataFolder().getParentFile(), "XLib");
         loadIConfig();
         api = XLib.init(dataFolder, ChatColor.translateAlternateColorCodes('&', iConfig.getIdentifierPrefix()));
+        api.setParallelLoadingEnabled(iConfig.isParallelLoadingEnabled());
+        api.setSnapshotCacheEnabled(iConfig.isSnapshotCacheEnabled());
         api.loadDataFiles();
         init = new PluginInit(this, api, META);
         init.setDataFolder(dataFolder);
@@ -91,6 +96,14 @@ public class XLibRuntime extends JavaPlugin {
             getServer().getPluginManager().registerEvents(il.new Spigot(), this);
         }
         getServer().getPluginManager().registerEvents(new InventoryListener(api), this);
+        loadDataFileWatcher();
+    }
+
+    @Override
+    public void onDisable() {
+        if (dataFileWatcher != null) {
+            dataFileWatcher.stop();
+        }
     }
 
     /**
@@ -118,6 +131,27 @@ public class XLibRuntime extends JavaPlugin {
         iConfig = new IConfig(new File(dataFolder, "config.yml"));
     }
 
+    /**
+     * (Re)starts the data file watcher if it is enabled in the config or stops it if not.
+     */
+    public void loadDataFileWatcher() {
+        if (dataFileWatcher != null) {
+            dataFileWatcher.stop();
+            dataFileWatcher = null;
+        }
+        if (!iConfig.isDataFileWatcherEnabled()) {
+            return;
+        }
+        dataFileWatcher = new DataFileWatcher(this);
+        try {
+            dataFileWatcher.start();
+        } catch (IOException exception) {
+            MessageUtil.log("[XLib] Could not start the data file watcher:");
+            exception.printStackTrace();
+            dataFileWatcher = null;
+        }
+    }
+
     /**
      * load / reload a new instance of command registry
      *
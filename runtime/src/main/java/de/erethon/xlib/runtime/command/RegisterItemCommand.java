@@ -95,7 +95,7 @@ public class RegisterItemCommand extends DRECommand {
         CustomItem customItem = new CustomItem(api, idType, args[1], itemStack);
         customItem.serialize().forEach((k, v) -> config.set(k, v));
         if (exItem instanceof CustomItem) {
-            api.getExItems().remove(exItem);
+            api.unregister(exItem);
         }
         try {
             config.save(file);
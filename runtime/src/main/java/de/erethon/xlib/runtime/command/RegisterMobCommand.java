@@ -100,7 +100,7 @@ public class RegisterMobCommand extends DRECommand {
         CustomMob customMob = new CustomMob(api, idType, args[1], next);
         customMob.serialize().forEach((k, v) -> config.set(k, v));
         if (exMob instanceof CustomMob) {
-            api.getExMobs().remove(exMob);
+            api.unregister(exMob);
         }
         try {
             config.save(file);
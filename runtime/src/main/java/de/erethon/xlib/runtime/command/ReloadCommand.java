@@ -53,7 +53,10 @@ public class ReloadCommand extends DRECommand {
         plugin.getInitializer().reloadMessageHandler();
         plugin.loadIConfig();
         plugin.loadCommandRegistry();
+        plugin.getAPI().setParallelLoadingEnabled(plugin.getIConfig().isParallelLoadingEnabled());
+        plugin.getAPI().setSnapshotCacheEnabled(plugin.getIConfig().isSnapshotCacheEnabled());
         plugin.getAPI().reload();
+        plugin.loadDataFileWatcher();
 
         MessageUtil.sendPluginTag(sender, plugin);
         MessageUtil.sendCenteredMessage(sender, IMessage.COMMAND_RELOAD_SUCCESS.getMessage());
@@ -23,12 +23,15 @@ import org.bukkit.ChatColor;
  */
 public class IConfig extends DREConfig {
 
-    public static final int CONFIG_VERSION = 2;
+    public static final int CONFIG_VERSION = 3;
 
     private String language = "english";
     private boolean updaterEnabled = true;
     private String identifierPrefix = "&7";
     private String boxName = "&6Mysterious Box";
+    private boolean parallelLoading = false;
+    private boolean snapshotCache = false;
+    private boolean watchDataFiles = false;
 
     public IConfig(File file) {
         super(file, CONFIG_VERSION);
@@ -69,6 +72,33 @@ public class IConfig extends DREConfig {
         return ChatColor.translateAlternateColorCodes('&', boxName);
     }
 
+    /**
+     * Returns if the data files are parsed on a worker pool.
+     *
+     * @return if the data files are parsed on a worker pool
+     */
+    public boolean isParallelLoadingEnabled() {
+        return parallelLoading;
+    }
+
+    /**
+     * Returns if the values of the data files are cached in a binary snapshot.
+     *
+     * @return if the values of the data files are cached in a binary snapshot
+     */
+    public boolean isSnapshotCacheEnabled() {
+        return snapshotCache;
+    }
+
+    /**
+     * Returns if data files are reloaded automatically when they are changed.
+     *
+     * @return if data files are reloaded automatically when they are changed
+     */
+    public boolean isDataFileWatcherEnabled() {
+        return watchDataFiles;
+    }
+
     @Override
     public void initialize() {
         if (!config.contains("language")) {
@@ -83,6 +113,15 @@ public class IConfig extends DREConfig {
         if (!config.contains("boxNames")) {
             config.set("boxName", boxName);
         }
+        if (!config.contains("parallelLoading")) {
+            config.set("parallelLoading", parallelLoading);
+        }
+        if (!config.contains("snapshotCache")) {
+            config.set("snapshotCache", snapshotCache);
+        }
+        if (!config.contains("watchDataFiles")) {
+            config.set("watchDataFiles", watchDataFiles);
+        }
 
         save();
     }
@@ -93,6 +132,9 @@ public class IConfig extends DREConfig {
         updaterEnabled = config.getBoolean("updaterEnabled", updaterEnabled);
         identifierPrefix = config.getString("identifierPrefix", identifierPrefix);
         boxName = config.getString("boxName", boxName);
+        parallelLoading = config.getBoolean("parallelLoading", parallelLoading);
+        snapshotCache = config.getBoolean("snapshotCache", snapshotCache);
+        watchDataFiles = config.getBoolean("watchDataFiles", watchDataFiles);
     }
 
 }
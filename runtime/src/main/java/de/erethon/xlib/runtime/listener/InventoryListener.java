@@ -25,6 +25,7 @@ import de.erethon.xlib.gui.action.MoveItemStackListener;
 import de.erethon.xlib.gui.component.InventoryButton;
 import java.util.HashSet;
 import java.util.Set;
+import org.bukkit.Material;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.Listener;
@@ -32,6 +33,7 @@ import org.bukkit.event.inventory.InventoryAction;
 import org.bukkit.event.inventory.InventoryClickEvent;
 import org.bukkit.event.inventory.InventoryCloseEvent;
 import org.bukkit.event.inventory.InventoryDragEvent;
+import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.PlayerInventory;
 import org.bukkit.plugin.java.JavaPlugin;
 import org.bukkit.scheduler.BukkitRunnable;
@@ -87,60 +89,64 @@ public class InventoryListener implements Listener {
             return;
         }
         Player player = (Player) event.getWhoClicked();
-        for (InventoryGUI gui : api.getGUICache(InventoryGUI.class)) {
-            if (!gui.getViewers().contains(player)) {
-                continue;
-            }
-            if (event.getClickedInventory() instanceof PlayerInventory) {
-                if (event.getAction() == InventoryAction.MOVE_TO_OTHER_INVENTORY) {
-                    event.setCancelled(true);
-                }
-                return;
-            }
-            InventoryButton button = gui.getButton(event.getCurrentItem());
-            InventoryAction iAction = event.getAction();
-            if (button == null) {
-                if (MOVE_ACTIONS.contains(iAction)) {
-                    fireMISE(gui, event);
-                }
-                continue;
-            }
-            Action vAction = Action.CLICK;
-            switch (iAction) {
-                case PLACE_ALL:
-                case PICKUP_ALL:
-                case MOVE_TO_OTHER_INVENTORY:
-                    vAction = Action.LEFT_CLICK;
-                    break;
-                case PICKUP_HALF:
-                case PLACE_ONE:
-                    vAction = Action.RIGHT_CLICK;
-            }
-            boolean cancelled = true;
-            if (vAction == Action.LEFT_CLICK) {
-                cancelled = button.isLeftClickLocked();
-            } else if (vAction == Action.RIGHT_CLICK) {
-                cancelled = button.isRightClickLocked();
+        InventoryGUI gui = api.getGUI(event.getView().getTopInventory());
+        if (gui == null || !gui.getViewers().contains(player)) {
+            return;
+        }
+        if (event.getClickedInventory() instanceof PlayerInventory) {
+            if (event.getAction() == InventoryAction.MOVE_TO_OTHER_INVENTORY) {
+                event.setCancelled(true);
             }
-            event.setCancelled(cancelled);
-            if (button.getSound() != null) {
-                player.playSound(player.getLocation(), button.getSound(), 1f, 1f);
+            return;
+        }
+        ItemStack item = event.getCurrentItem();
+        // An empty slot means that the button's item has been taken out
+        InventoryButton button = item != null && item.getType() != Material.AIR ? gui.getButton(event.getRawSlot(), player) : null;
+        // The slot may hold another item if an unlocked button has been replaced; only the button in the slot needs to be compared
+        if (button != null && !button.is(item, player)) {
+            button = null;
+        }
+        InventoryAction iAction = event.getAction();
+        if (button == null) {
+            if (MOVE_ACTIONS.contains(iAction)) {
+                fireMISE(gui, event);
             }
-            if (button.getInteractionListener() != null) {
-                InteractionEvent ie = new InteractionEvent(gui, button, player, vAction);
-                try {
-                    button.getInteractionListener().onAction(ie);
-                } catch (Exception exception) {
-                    exception.printStackTrace();
-                }
-                if (ie.isClickCancelled()) {
-                    return;
-                }
+            return;
+        }
+        Action vAction = Action.CLICK;
+        switch (iAction) {
+            case PLACE_ALL:
+            case PICKUP_ALL:
+            case MOVE_TO_OTHER_INVENTORY:
+                vAction = Action.LEFT_CLICK;
+                break;
+            case PICKUP_HALF:
+            case PLACE_ONE:
+                vAction = Action.RIGHT_CLICK;
+        }
+        boolean cancelled = true;
+        if (vAction == Action.LEFT_CLICK) {
+            cancelled = button.isLeftClickLocked();
+        } else if (vAction == Action.RIGHT_CLICK) {
+            cancelled = button.isRightClickLocked();
+        }
+        event.setCancelled(cancelled);
+        if (button.getSound() != null) {
+            player.playSound(player.getLocation(), button.getSound(), 1f, 1f);
+        }
+        if (button.getInteractionListener() != null) {
+            InteractionEvent ie = new InteractionEvent(gui, button, player, vAction);
+            try {
+                button.getInteractionListener().onAction(ie);
+            } catch (Exception exception) {
+                exception.printStackTrace();
             }
-            if (!cancelled && MOVE_ACTIONS.contains(iAction)) {
-                fireMISE(gui, event);
+            if (ie.isClickCancelled()) {
+                return;
             }
-            break;
+        }
+        if (!cancelled && MOVE_ACTIONS.contains(iAction)) {
+            fireMISE(gui, event);
         }
     }
 
@@ -150,11 +156,9 @@ public class InventoryListener implements Listener {
             return;
         }
         Player player = (Player) event.getWhoClicked();
-        for (InventoryGUI gui : api.getGUICache(InventoryGUI.class)) {
-            if (gui.getViewers().contains(player)) {
-                event.setCancelled(true);
-                return;
-            }
+        InventoryGUI gui = api.getGUI(event.getView().getTopInventory());
+        if (gui != null && gui.getViewers().contains(player)) {
+            event.setCancelled(true);
         }
     }
 
@@ -167,17 +171,19 @@ public class InventoryListener implements Listener {
         if (PaginatedInventoryGUI.exclude == player) {
             return;
         }
-        for (InventoryGUI gui : api.getGUICache(InventoryGUI.class)) {
-            if (!gui.is(event.getInventory())) {
-                continue;
-            }
-            if (gui.getCloseListener() != null) {
-                gui.getCloseListener().onClose(new CloseEvent(gui, player));
-            }
-            gui.removeViewer(player);
-            if (gui.isTransient()) {
-                gui.unregister();
-            }
+        InventoryGUI gui = api.getGUI(event.getInventory());
+        if (gui == null) {
+            return;
+        }
+        if (gui.getCloseListener() != null) {
+            gui.getCloseListener().onClose(new CloseEvent(gui, player));
+        }
+        gui.removeViewer(player);
+        if (gui.isTransient()) {
+            gui.unregister();
+        } else if (!(gui instanceof PaginatedInventoryGUI) && event.getInventory().getViewers().size() <= 1) {
+            // Pages are reused, so they stay linked as long as the GUI is registered
+            api.unregisterInventory(event.getInventory());
         }
     }
 
@@ -82,13 +82,13 @@ public class ItemListener implements Listener {
         if (!(exItem instanceof CustomItem)) {
             return;
         }
-        for (CustomAttribute.Instance attribute : ((CustomItem) exItem).getStaticAttributes()) {
+        for (CustomAttribute.Instance attribute : ((CustomItem) exItem).getHitAttributes()) {
             if (attribute.getType().hasHitHandler()) {
                 attribute.getType().getHitHandler().onHit(attribute, weapon, player, event);
             }
         }
         if (api.hasStackData(weapon)) {
-            for (CustomAttribute.Instance attribute : api.wrap(weapon).getDynamicAttributes()) {
+            for (CustomAttribute.Instance attribute : api.wrap((CustomItem) exItem, weapon).getDynamicAttributes()) {
                 if (attribute.getType().hasHitHandler()) {
                     attribute.getType().getHitHandler().onHit(attribute, weapon, player, event);
                 }
@@ -111,13 +111,13 @@ public class ItemListener implements Listener {
         if (!(exItem instanceof CustomItem)) {
             return;
         }
-        for (CustomAttribute.Instance attribute : ((CustomItem) exItem).getStaticAttributes()) {
+        for (CustomAttribute.Instance attribute : ((CustomItem) exItem).getRightClickAttributes()) {
             if (attribute.getType().hasRightClickHandler()) {
                 attribute.getType().getRightClickHandler().onRightClick(attribute, event);
             }
         }
         if (api.hasStackData(stack)) {
-            for (CustomAttribute.Instance attribute : api.wrap(stack).getDynamicAttributes()) {
+            for (CustomAttribute.Instance attribute : api.wrap((CustomItem) exItem, stack).getDynamicAttributes()) {
                 if (attribute.getType().hasRightClickHandler()) {
                     attribute.getType().getRightClickHandler().onRightClick(attribute, event);
                 }
@@ -137,13 +137,13 @@ public class ItemListener implements Listener {
         if (!(exItem instanceof CustomItem)) {
             return;
         }
-        for (CustomAttribute.Instance attribute : ((CustomItem) exItem).getStaticAttributes()) {
+        for (CustomAttribute.Instance attribute : ((CustomItem) exItem).getDropAttributes()) {
             if (attribute.getType().hasDropHandler()) {
                 attribute.getType().getDropHandler().onDrop(attribute, event);
             }
         }
         if (api.hasStackData(stack)) {
-            for (CustomAttribute.Instance attribute : api.wrap(stack).getDynamicAttributes()) {
+            for (CustomAttribute.Instance attribute : api.wrap((CustomItem) exItem, stack).getDynamicAttributes()) {
                 if (attribute.getType().hasDropHandler()) {
                     attribute.getType().getDropHandler().onDrop(attribute, event);
                 }
@@ -160,13 +160,13 @@ public class ItemListener implements Listener {
                 return;
             }
             boolean broken = tool.getDurability() + event.getDamage() >= tool.getType().getMaxDurability();
-            for (CustomAttribute.Instance attribute : ((CustomItem) exItem).getStaticAttributes()) {
+            for (CustomAttribute.Instance attribute : ((CustomItem) exItem).getDamageAttributes()) {
                 if (attribute.getType().hasDamageHandler()) {
                     attribute.getType().getDamageHandler().onDamage(attribute, tool, broken, event);
                 }
             }
             if (api.hasStackData(tool)) {
-                for (CustomAttribute.Instance attribute : api.wrap(tool).getDynamicAttributes()) {
+                for (CustomAttribute.Instance attribute : api.wrap((CustomItem) exItem, tool).getDynamicAttributes()) {
                     if (attribute.getType().hasDamageHandler()) {
                         attribute.getType().getDamageHandler().onDamage(attribute, tool, broken, event);
                     }
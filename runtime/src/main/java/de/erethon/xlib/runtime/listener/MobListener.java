@@ -15,7 +15,6 @@
 package de.erethon.xlib.runtime.listener;
 
 import de.erethon.xlib.XLib;
-import de.erethon.xlib.category.Category;
 import de.erethon.xlib.item.ExItem;
 import de.erethon.xlib.loottable.LootTable;
 import de.erethon.xlib.mob.CustomMob;
@@ -69,29 +68,7 @@ public class MobListener implements Listener {
             return;
         }
 
-        if (item.getMobDamageModifier(mob) == 1) {
-
-            for (Category<ExMob> mobCategory : item.getCategoryDamageModifiers().keySet()) {
-                if (mobCategory != null && mobCategory.getElements().contains(mob)) {
-                    event.setDamage(event.getDamage() * item.getCategoryDamageModifier(mobCategory));
-                }
-            }
-
-        } else {
-            event.setDamage(event.getDamage() * item.getMobDamageModifier(mob));
-        }
-
-        if (mob.getItemDamageModifier(item) == 1) {
-
-            for (Category<ExItem> itemCategory : mob.getCategoryDamageModifiers().keySet()) {
-                if (itemCategory.getElements().contains(item)) {
-                    event.setDamage(event.getDamage() * mob.getCategoryDamageModifier(itemCategory));
-                }
-            }
-
-        } else {
-            event.setDamage(event.getDamage() * mob.getItemDamageModifier(item));
-        }
+        event.setDamage(event.getDamage() * api.getDamageModifier(item, mob));
     }
 
     @EventHandler(priority = EventPriority.HIGHEST)
@@ -120,6 +97,7 @@ public class MobListener implements Listener {
     @EventHandler
     public void onDeath(EntityDeathEvent event) {
         ExMob exMob = api.getExMob(event.getEntity());
+        api.invalidateExMob(event.getEntity());
         if (!(exMob instanceof CustomMob)) {
             return;
         }
@@ -16,10 +16,24 @@ package de.erethon.xlib.item;
 
 import com.destroystokyo.paper.profile.PlayerProfile;
 import com.destroystokyo.paper.profile.ProfileProperty;
+import de.erethon.xlib.XLib;
+import de.erethon.xlib.chat.MessageUtil;
 import de.erethon.xlib.item.CustomHead.InternalsProvider;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
 import org.bukkit.Bukkit;
 import org.bukkit.Material;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.file.YamlConfiguration;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.SkullMeta;
 
@@ -28,6 +42,32 @@ import org.bukkit.inventory.meta.SkullMeta;
  */
 class PaperAPIProvider implements InternalsProvider {
 
+    /**
+     * Profiles that have been completed, mapped to the texture value they have been requested with.
+     */
+    private static class CachedProfile {
+
+        String textureValue;
+        PlayerProfile profile;
+
+        CachedProfile(String textureValue, PlayerProfile profile) {
+            this.textureValue = textureValue;
+            this.profile = profile;
+        }
+
+    }
+
+    private final Map<UUID, CachedProfile> profiles = new ConcurrentHashMap<>();
+    private final Set<UUID> resolving = ConcurrentHashMap.newKeySet();
+    private final ExecutorService resolver = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "XLib Profile Resolver");
+        thread.setDaemon(true);
+        return thread;
+    });
+    // Only accessed by the resolver thread
+    private File cacheFile;
+    private final AtomicBoolean cacheLoaded = new AtomicBoolean();
+
     @Override
     public ItemStack newPlayerHead(int amount) {
         return new ItemStack(Material.PLAYER_HEAD, amount);
@@ -53,13 +93,15 @@ class PaperAPIProvider implements InternalsProvider {
         return null;
     }
 
+    /**
+     * Uses the completed profile if it has been resolved before. If not, the head gets a profile with just the texture, which is enough to display it, and the
+     * profile is completed asynchronously for later heads.
+     */
     @Override
     public ItemStack setSkullOwner(ItemStack item, Object compound) {
         String uuid = (String) ((Object[]) compound)[0];
         String value = (String) ((Object[]) compound)[1];
-        PlayerProfile profile = Bukkit.createProfile(UUID.fromString(uuid));
-        profile.setProperty(new ProfileProperty("textures", value));
-        profile.complete();
+        PlayerProfile profile = getProfile(UUID.fromString(uuid), value);
 
         ItemStack clone = item.clone();
         SkullMeta meta = (SkullMeta) clone.getItemMeta();
@@ -73,4 +115,97 @@ class PaperAPIProvider implements InternalsProvider {
         return new Object[]{id, textureValue};
     }
 
+    private PlayerProfile getProfile(UUID uuid, String value) {
+        // The cache is read by the resolver thread, so that creating heads never waits for the disk
+        if (cacheLoaded.compareAndSet(false, true)) {
+            resolver.execute(this::loadCache);
+        }
+        CachedProfile cached = profiles.get(uuid);
+        if (cached != null && cached.textureValue.equals(value)) {
+            return cached.profile;
+        }
+
+        if (resolving.add(uuid)) {
+            resolver.execute(() -> {
+                try {
+                    PlayerProfile profile = Bukkit.createProfile(uuid);
+                    profile.setProperty(new ProfileProperty("textures", value));
+                    if (profile.complete()) {
+                        profiles.put(uuid, new CachedProfile(value, profile));
+                    }
+                } catch (RuntimeException exception) {
+                    MessageUtil.debug("[XLib] Could not complete profile " + uuid + ": " + exception);
+                } finally {
+                    resolving.remove(uuid);
+                }
+                if (resolving.isEmpty()) {
+                    saveCache();
+                }
+            });
+        }
+
+        PlayerProfile profile = Bukkit.createProfile(uuid);
+        profile.setProperty(new ProfileProperty("textures", value));
+        return profile;
+    }
+
+    /* Persistence */
+    private void loadCache() {
+        XLib api = XLib.getInstance();
+        if (api == null) {
+            return;
+        }
+        cacheFile = new File(api.getDataFolder(), "cache/profiles.yml");
+        if (!cacheFile.exists()) {
+            return;
+        }
+        YamlConfiguration config = YamlConfiguration.loadConfiguration(cacheFile);
+        for (String key : config.getKeys(false)) {
+            ConfigurationSection section = config.getConfigurationSection(key);
+            if (section == null || !section.isString("textureValue")) {
+                continue;
+            }
+            UUID uuid;
+            try {
+                uuid = UUID.fromString(key);
+            } catch (IllegalArgumentException exception) {
+                continue;
+            }
+            PlayerProfile profile = Bukkit.createProfile(uuid, section.getString("name"));
+            ConfigurationSection properties = section.getConfigurationSection("properties");
+            if (properties != null) {
+                for (String name : properties.getKeys(false)) {
+                    profile.setProperty(new ProfileProperty(name, properties.getString(name + ".value"), properties.getString(name + ".signature")));
+                }
+            }
+            // Profiles completed in the meantime are newer
+            profiles.putIfAbsent(uuid, new CachedProfile(section.getString("textureValue"), profile));
+        }
+    }
+
+    private void saveCache() {
+        if (cacheFile == null) {
+            return;
+        }
+        YamlConfiguration config = new YamlConfiguration();
+        for (Map.Entry<UUID, CachedProfile> entry : profiles.entrySet()) {
+            String key = entry.getKey().toString();
+            PlayerProfile profile = entry.getValue().profile;
+            config.set(key + ".textureValue", entry.getValue().textureValue);
+            config.set(key + ".name", profile.getName());
+            List<ProfileProperty> properties = new ArrayList<>(profile.getProperties());
+            for (ProfileProperty property : properties) {
+                config.set(key + ".properties." + property.getName() + ".value", property.getValue());
+                config.set(key + ".properties." + property.getName() + ".signature", property.getSignature());
+            }
+        }
+        cacheFile.getParentFile().mkdirs();
+        try {
+            config.save(cacheFile);
+        } catch (IOException exception) {
+            MessageUtil.log("[XLib] Could not save the profile cache:");
+            exception.printStackTrace();
+        }
+    }
+
 }